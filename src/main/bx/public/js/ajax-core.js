@@ -12,14 +12,507 @@ window.BoxLangAjax = window.BoxLangAjax || {
 		defaultTimeout: 30000,
 		retryAttempts: 3,
 		retryDelay: 1000,
+		retryMaxDelay: 30000,
+		retryStatuses: [408, 425, 429, 500, 502, 503, 504],
+		circuitBreakerThreshold: 5,
+		circuitBreakerCooldown: 30000,
+		refreshTick: 1000,
+		batchUrl: "/bxmodules/bxUICompat/public/batch.bxm",
+		batchMaxFragments: 25,
+		// The module dispatcher, see ProxyCache::getDispatcherURL()
+		proxyUrl: "/bxmodules/bxUICompat/public/proxy.bxm",
+		proxyTransport: "form",
+		maxConcurrentRequests: 6,
+		cacheMaxEntries: 100,
+		cacheMaxBytes: 5242880,
+		cacheDefaultTTL: 0,
+		metricsEnabled: true,
+		metricsUrl: "",
+		metricsInterval: 60000,
+		lazyRootMargin: "200px",
 	},
 	utils: {},
 	components: {},
-	cache: new Map(),
+	cache: null,
+};
+
+/**
+ * Bounded LRU cache for AJAX responses with a per-entry TTL. It is bounded by number of
+ * entries and by approximate size in bytes. Expired entries are no longer returned by get()
+ * but stay available through peek() until they are evicted.
+ */
+BoxLangAjax.ResponseCache = class {
+	constructor(options = {}) {
+		this.maxEntries = options.maxEntries || 100;
+		this.maxBytes = options.maxBytes || 5242880;
+		this.bytes = 0;
+		// Map iteration follows insertion order, so the first key is the least recently used
+		this.entries = new Map();
+	}
+
+	get size() {
+		return this.entries.size;
+	}
+
+	/**
+	 * Get a fresh entry and mark it as the most recently used one
+	 */
+	get(key) {
+		const entry = this.entries.get(key);
+		if (!entry || entry.expires <= Date.now()) {
+			return undefined;
+		}
+		this.entries.delete(key);
+		this.entries.set(key, entry);
+		return entry;
+	}
+
+	/**
+	 * Get an entry even if it is expired, without touching its recency
+	 */
+	peek(key) {
+		return this.entries.get(key);
+	}
+
+	has(key) {
+		const entry = this.entries.get(key);
+		return entry !== undefined && entry.expires > Date.now();
+	}
+
+	/**
+	 * Store an entry: { data, contentType, expires }
+	 */
+	set(key, entry) {
+		this.delete(key);
+
+		entry.size =
+			2 *
+			(typeof entry.data === "string"
+				? entry.data.length
+				: JSON.stringify(entry.data || "").length);
+
+		// Never let a single oversized response flush the whole cache
+		if (entry.size > this.maxBytes) {
+			return this;
+		}
+
+		this.entries.set(key, entry);
+		this.bytes += entry.size;
+
+		while (
+			this.entries.size > this.maxEntries ||
+			this.bytes > this.maxBytes
+		) {
+			this.delete(this.entries.keys().next().value);
+		}
+
+		return this;
+	}
+
+	delete(key) {
+		const entry = this.entries.get(key);
+		if (!entry) {
+			return false;
+		}
+		this.bytes -= entry.size || 0;
+		return this.entries.delete(key);
+	}
+
+	clear() {
+		this.entries.clear();
+		this.bytes = 0;
+	}
+
+	keys() {
+		return this.entries.keys();
+	}
+
+	forEach(callback) {
+		this.entries.forEach(callback);
+	}
+};
+
+// In-flight GET requests by request key, as { promise, container }, see fetchContent
+BoxLangAjax.inflight = BoxLangAjax.inflight || new Map();
+
+// What a conditional request resolves with when the server answered 304 Not Modified
+BoxLangAjax.NOT_MODIFIED =
+	BoxLangAjax.NOT_MODIFIED || Object.freeze({ notModified: true });
+
+// The last fragment ETag seen per URL (oldest first), see fetchContent's etag option
+BoxLangAjax.etags = BoxLangAjax.etags || new Map();
+
+// The URL each container currently shows, so refreshes of the same URL can be conditional
+BoxLangAjax.loadedUrls = BoxLangAjax.loadedUrls || new WeakMap();
+
+/**
+ * Remember the ETag of a fragment, keeping the most recent 500 URLs
+ */
+BoxLangAjax.utils.rememberETag = function (url, etag) {
+	if (!etag) {
+		return;
+	}
+	BoxLangAjax.etags.delete(url);
+	BoxLangAjax.etags.set(url, etag);
+	if (BoxLangAjax.etags.size > 500) {
+		BoxLangAjax.etags.delete(BoxLangAjax.etags.keys().next().value);
+	}
+};
+
+if (!(BoxLangAjax.cache instanceof BoxLangAjax.ResponseCache)) {
+	BoxLangAjax.cache = new BoxLangAjax.ResponseCache({
+		maxEntries: BoxLangAjax.config.cacheMaxEntries,
+		maxBytes: BoxLangAjax.config.cacheMaxBytes,
+	});
+}
+
+/**
+ * Cache a successful GET response for as long as the server allows. Stale-while-revalidate
+ * callers also keep responses that must be revalidated, unless they are no-store.
+ */
+BoxLangAjax.utils.storeResponse = function (
+	url,
+	data,
+	contentType,
+	cacheControl,
+	options = {}
+) {
+	const ttl = BoxLangAjax.utils.parseMaxAge(cacheControl);
+	if (ttl > 0 || (options.swr && !/no-store/i.test(cacheControl || ""))) {
+		BoxLangAjax.cache.set(url, {
+			data: data,
+			timestamp: Date.now(),
+			expires: Date.now() + ttl * 1000,
+			contentType: contentType,
+		});
+	}
+};
+
+/**
+ * Seconds a response may be cached according to its Cache-Control header
+ */
+BoxLangAjax.utils.parseMaxAge = function (cacheControl) {
+	if (!cacheControl) {
+		return BoxLangAjax.config.cacheDefaultTTL || 0;
+	}
+	if (/no-store|no-cache/i.test(cacheControl)) {
+		return 0;
+	}
+	const maxAge = /(?:^|[,\s])max-age=(\d+)/i.exec(cacheControl);
+	return maxAge ? parseInt(maxAge[1]) : BoxLangAjax.config.cacheDefaultTTL || 0;
+};
+
+/**
+ * Real user telemetry for AJAX fragments. Every request is timed with the Performance API
+ * (so the measures also show up in the browser's performance tools) and aggregated per
+ * component and URL path: request, error, retry and cache hit counts, bytes received and
+ * histograms of fetch latency (until the response headers), parse time (reading the body)
+ * and swap time (rendering into the DOM). When config.metricsUrl is set, the aggregates are
+ * sent there with navigator.sendBeacon every config.metricsInterval ms and when the page is
+ * hidden, then reset.
+ */
+BoxLangAjax.metrics = {
+	// Histogram bucket upper bounds in ms, the last bucket counts everything slower
+	buckets: [10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000],
+	// Maximum number of component/URL pairs tracked between two beacons
+	maxKeys: 200,
+	entries: new Map(),
+	sequence: 0,
+	timer: null,
+
+	/**
+	 * Start timing a phase, returns a function that ends it and returns its duration in ms
+	 */
+	start: function (name) {
+		const mark = "bx:" + name + ":" + ++this.sequence;
+		const started = performance.now();
+		try {
+			performance.mark(mark);
+		} catch (error) {
+			// User timing is unavailable
+		}
+
+		return function () {
+			let duration = performance.now() - started;
+			try {
+				const measure = performance.measure("bx:" + name, mark);
+				if (measure && typeof measure.duration === "number") {
+					duration = measure.duration;
+				}
+				performance.clearMarks(mark);
+			} catch (error) {
+				// Keep the performance.now() duration
+			}
+			return duration;
+		};
+	},
+
+	/**
+	 * The component type an element belongs to (pod, grid, div, layout, tooltip or window)
+	 */
+	componentOf: function (element) {
+		if (!element || typeof element.closest !== "function") {
+			return "ajax";
+		}
+		const types = ["pod", "grid", "tooltip", "window", "layout", "div"];
+		for (const type of types) {
+			if (element.closest(".bx-" + type)) {
+				return type;
+			}
+		}
+		return "ajax";
+	},
+
+	/**
+	 * Add a sample to the aggregate of a component and URL. Supported sample keys: latency,
+	 * parse and swap (ms), bytes, retries, error (true) and cached (true for cache hits).
+	 */
+	record: function (component, url, sample) {
+		if (!BoxLangAjax.config.metricsEnabled) {
+			return;
+		}
+
+		let path;
+		try {
+			path = new URL(url, window.location.href).pathname;
+		} catch (error) {
+			path = String(url).split("?")[0];
+		}
+
+		let key = component + " " + path;
+		if (!this.entries.has(key) && this.entries.size >= this.maxKeys) {
+			key = component + " (other)";
+			path = "(other)";
+		}
+
+		let entry = this.entries.get(key);
+		if (!entry) {
+			entry = {
+				component: component,
+				url: path,
+				requests: 0,
+				errors: 0,
+				retries: 0,
+				cacheHits: 0,
+				bytes: 0,
+				latency: this.histogram(),
+				parse: this.histogram(),
+				swap: this.histogram(),
+			};
+			this.entries.set(key, entry);
+		}
+
+		if (sample.cached) {
+			entry.cacheHits++;
+		}
+		if (typeof sample.latency === "number") {
+			entry.requests++;
+			this.observe(entry.latency, sample.latency);
+		}
+		if (typeof sample.parse === "number") {
+			this.observe(entry.parse, sample.parse);
+		}
+		if (typeof sample.swap === "number") {
+			this.observe(entry.swap, sample.swap);
+		}
+		if (sample.error) {
+			entry.errors++;
+		}
+		entry.retries += sample.retries || 0;
+		entry.bytes += sample.bytes || 0;
+
+		this.schedule();
+	},
+
+	histogram: function () {
+		return {
+			counts: new Array(this.buckets.length + 1).fill(0),
+			count: 0,
+			sum: 0,
+			max: 0,
+		};
+	},
+
+	observe: function (histogram, value) {
+		let index = this.buckets.findIndex(function (bound) {
+			return value <= bound;
+		});
+		if (index === -1) {
+			index = this.buckets.length;
+		}
+		histogram.counts[index]++;
+		histogram.count++;
+		histogram.sum += value;
+		histogram.max = Math.max(histogram.max, value);
+	},
+
+	/**
+	 * The current aggregates, with the cache hit ratio of every entry
+	 */
+	snapshot: function () {
+		return Array.from(this.entries.values()).map(function (entry) {
+			const lookups = entry.requests + entry.cacheHits;
+			return Object.assign({}, entry, {
+				cacheHitRatio: lookups ? entry.cacheHits / lookups : 0,
+			});
+		});
+	},
+
+	reset: function () {
+		this.entries.clear();
+		try {
+			["fetch", "parse", "swap"].forEach(function (name) {
+				performance.clearMeasures("bx:" + name);
+			});
+		} catch (error) {
+			// User timing is unavailable
+		}
+	},
+
+	/**
+	 * Send a beacon with the aggregates gathered since the last one
+	 */
+	flush: function () {
+		clearTimeout(this.timer);
+		this.timer = null;
+
+		const url = BoxLangAjax.config.metricsUrl;
+		if (!url || !this.entries.size || !navigator.sendBeacon) {
+			return false;
+		}
+
+		const payload = JSON.stringify({
+			page: window.location.pathname,
+			buckets: this.buckets,
+			metrics: this.snapshot(),
+		});
+		const sent = navigator.sendBeacon(
+			url,
+			new Blob([payload], { type: "application/json" })
+		);
+		if (sent) {
+			this.reset();
+		}
+		return sent;
+	},
+
+	/**
+	 * Plan the next beacon, only while there is something to send
+	 */
+	schedule: function () {
+		if (this.timer || !BoxLangAjax.config.metricsUrl) {
+			return;
+		}
+		const self = this;
+		this.timer = setTimeout(function () {
+			self.timer = null;
+			self.flush();
+		}, BoxLangAjax.config.metricsInterval);
+	},
+};
+
+// Pages are often closed without another chance to report, so send what we have when hidden
+document.addEventListener("visibilitychange", function () {
+	if (document.visibilityState === "hidden") {
+		BoxLangAjax.metrics.flush();
+	}
+});
+
+/**
+ * Central request scheduler used by fetchContent. It caps the number of requests in flight
+ * and starts the most important ones first: visible containers, then prefetches and finally
+ * background auto-refreshes. Queued requests whose container has left the DOM are dropped.
+ */
+BoxLangAjax.requestQueue = {
+	priorities: { visible: 0, prefetch: 1, background: 2 },
+	active: 0,
+	pending: [],
+
+	/**
+	 * Queue a task returning a promise. Supported options: priority, container
+	 */
+	schedule: function (task, options = {}) {
+		const self = this;
+		return new Promise(function (resolve, reject) {
+			const entry = {
+				task: task,
+				resolve: resolve,
+				reject: reject,
+				priority:
+					self.priorities[options.priority] !== undefined
+						? self.priorities[options.priority]
+						: self.priorities.visible,
+				container: options.container || null,
+			};
+
+			// Keep the queue ordered by priority, first in first out within a priority
+			const index = self.pending.findIndex(function (queued) {
+				return queued.priority > entry.priority;
+			});
+			if (index === -1) {
+				self.pending.push(entry);
+			} else {
+				self.pending.splice(index, 0, entry);
+			}
+
+			self.next();
+		});
+	},
+
+	/**
+	 * Start queued tasks while there are free slots
+	 */
+	next: function () {
+		const self = this;
+		const limit = BoxLangAjax.config.maxConcurrentRequests || Infinity;
+
+		while (self.active < limit && self.pending.length > 0) {
+			const entry = self.pending.shift();
+
+			if (entry.container && !entry.container.isConnected) {
+				const error = new Error(
+					"Request dropped: target container left the DOM"
+				);
+				error.name = "AbortError";
+				entry.reject(error);
+				continue;
+			}
+
+			self.active++;
+			Promise.resolve()
+				.then(entry.task)
+				.then(entry.resolve, entry.reject)
+				.finally(function () {
+					self.active--;
+					self.next();
+				});
+		}
+	},
 };
 
 /**
  * Enhanced Fetch API wrapper with retry logic and error handling
+ *
+ * Besides the Fetch API options it accepts:
+ * - priority : visible (default), prefetch or background, see BoxLangAjax.requestQueue
+ * - container : The element the response is for, the request is dropped if it leaves the DOM while queued
+ * - timeout : Milliseconds before the request is aborted
+ * - onResponse : Callback receiving the Response before its body is read
+ * - useCache : false to bypass BoxLangAjax.cache for this call
+ * - revalidate : true to skip reading BoxLangAjax.cache but still store the response
+ * - swr : true to also store responses without a max-age (as already stale) for stale-while-revalidate
+ * - dedupe : false to always send a new request instead of sharing an identical in-flight GET.
+ *   Requests with a signal or onChunk are never shared, and requests for different containers
+ *   don't share one, since each caller cancels and receives its own
+ * - signal : An AbortSignal to cancel the request, cancelled requests are never retried
+ * - batch : true to fold the request into a batch, false to never batch it (background GETs batch by default)
+ * - etag : true to ask the server for a fragment ETag (X-BX-ETag header) and remember it
+ * - conditional : true to also send the remembered ETag as If-None-Match, an unchanged fragment then
+ *   resolves with BoxLangAjax.NOT_MODIFIED instead of its content. Implies etag.
+ * - onChunk : Callback receiving a text response as it arrives, as (chunk, offset). Every attempt
+ *   starts again at offset 0. The promise still resolves with the whole text.
+ * - component : The component type the request is reported under in BoxLangAjax.metrics,
+ *   derived from the container by default
  */
 BoxLangAjax.utils.fetchContent = async function (url, options = {}) {
 	const defaultOptions = {
@@ -38,80 +531,744 @@ BoxLangAjax.utils.fetchContent = async function (url, options = {}) {
 		fetchOptions.headers["Cache-Control"] = "no-cache";
 	}
 
-	let lastError;
+	// Fragment ETags let refreshes of unchanged content come back as an empty 304
+	const isGet = fetchOptions.method.toUpperCase() === "GET";
+	const conditional = isGet && options.conditional === true;
+	const trackETag = isGet && (conditional || options.etag === true);
+	if (trackETag) {
+		fetchOptions.headers = Object.assign({}, fetchOptions.headers, {
+			"X-BX-ETag": "1",
+		});
+		const etag = conditional && BoxLangAjax.etags.get(url);
+		if (etag) {
+			fetchOptions.headers["If-None-Match"] = etag;
+		}
+	}
+
+	// Only GET responses are cached, callers can opt out per call
+	const cacheable =
+		fetchOptions.method.toUpperCase() === "GET" &&
+		options.useCache !== false &&
+		!["no-store", "no-cache", "reload"].includes(options.cache);
 
-	for (
-		let attempt = 1;
-		attempt <= BoxLangAjax.config.retryAttempts;
-		attempt++
-	) {
-		try {
-			// Create AbortController for timeout
-			const controller = new AbortController();
-			const timeoutId = setTimeout(
-				() => controller.abort(),
-				fetchOptions.timeout
+	const component =
+		options.component ||
+		BoxLangAjax.metrics.componentOf(options.container);
+
+	if (cacheable && !options.revalidate && !conditional) {
+		const cached = BoxLangAjax.cache.get(url);
+		if (cached) {
+			BoxLangAjax.metrics.record(component, url, { cached: true });
+			return cached.data;
+		}
+	}
+
+	// Timings of the current attempt
+	let sample = {};
+
+	// A single network attempt, run when the scheduler grants it a slot
+	const attemptFetch = async function () {
+		// Create AbortController for timeout, started once the request actually leaves the queue
+		const controller = new AbortController();
+		let timedOut = false;
+		const timeoutId = setTimeout(function () {
+			timedOut = true;
+			controller.abort();
+		}, fetchOptions.timeout);
+
+		// Honor an abort signal from the caller as well
+		const abort = function () {
+			controller.abort();
+		};
+		if (options.signal) {
+			if (options.signal.aborted) {
+				controller.abort();
+			}
+			options.signal.addEventListener("abort", abort);
+		}
+
+		// Only RequestInit members reach fetch(), the rest are options of ours
+		const requestInit = BoxLangAjax.utils.requestInit(
+			fetchOptions,
+			controller.signal
+		);
+
+		// Our own timeout aborts the request, report it as such so it can be retried
+		const abortReason = function (error) {
+			if (!timedOut) {
+				return error;
+			}
+			const timeoutError = new Error(
+				`Request timed out after ${fetchOptions.timeout}ms`
 			);
+			timeoutError.name = "TimeoutError";
+			return timeoutError;
+		};
 
-			fetchOptions.signal = controller.signal;
+		sample = {};
+		const endFetch = BoxLangAjax.metrics.start("fetch");
 
-			const response = await fetch(url, fetchOptions);
-			clearTimeout(timeoutId);
+		try {
+			let response;
+			try {
+				response = await fetch(url, requestInit);
+			} catch (error) {
+				throw abortReason(error);
+			}
+			sample.latency = endFetch();
+
+			if (response.status === 304 && conditional) {
+				return BoxLangAjax.NOT_MODIFIED;
+			}
 
 			if (!response.ok) {
-				throw new Error(
+				const error = new Error(
 					`HTTP ${response.status}: ${response.statusText}`
 				);
+				error.status = response.status;
+				error.retryAfter = BoxLangAjax.utils.parseRetryAfter(
+					response.headers.get("retry-after")
+				);
+				throw error;
+			}
+
+			if (trackETag) {
+				BoxLangAjax.utils.rememberETag(url, response.headers.get("etag"));
+			}
+
+			// Let callers inspect the response headers (e.g. proxy cache directives)
+			if (typeof options.onResponse === "function") {
+				options.onResponse(response);
 			}
 
 			const contentType = response.headers.get("content-type");
+			const endParse = BoxLangAjax.metrics.start("parse");
 			let result;
 
 			if (contentType && contentType.includes("application/json")) {
 				result = await response.json();
+			} else if (
+				typeof options.onChunk === "function" &&
+				response.body &&
+				typeof TextDecoder !== "undefined"
+			) {
+				try {
+					result = await BoxLangAjax.utils.readStream(
+						response.body,
+						options.onChunk
+					);
+				} catch (error) {
+					throw abortReason(error);
+				}
 			} else {
 				result = await response.text();
 			}
 
-			// Cache successful responses if cacheable
-			if (response.headers.get("cache-control") !== "no-cache") {
-				BoxLangAjax.cache.set(url, {
-					data: result,
-					timestamp: Date.now(),
-					contentType: contentType,
-				});
+			sample.parse = endParse();
+			sample.bytes =
+				parseInt(response.headers.get("content-length")) ||
+				(typeof result === "string" ? result.length : 0);
+
+			if (cacheable) {
+				BoxLangAjax.utils.storeResponse(
+					url,
+					result,
+					contentType,
+					response.headers.get("cache-control"),
+					options
+				);
 			}
 
 			return result;
-		} catch (error) {
-			lastError = error;
-
-			// Don't retry on abort (user cancelled) or client errors (4xx)
-			if (
-				error.name === "AbortError" ||
-				(error.message && error.message.includes("4"))
-			) {
-				break;
+		} finally {
+			clearTimeout(timeoutId);
+			if (options.signal) {
+				options.signal.removeEventListener("abort", abort);
 			}
+		}
+	};
+
+	// Only idempotent requests are retried after timeouts and server errors. Others are only
+	// retried when the server explicitly turned them away without processing them.
+	const idempotent = ["GET", "HEAD", "OPTIONS"].includes(
+		fetchOptions.method.toUpperCase()
+	);
+
+	// All attempts with retries and backoff
+	const load = async function () {
+		let lastError;
+		let attempts = 0;
+
+		for (
+			let attempt = 1;
+			attempt <= BoxLangAjax.config.retryAttempts;
+			attempt++
+		) {
+			attempts = attempt;
+			try {
+				// Fails fast while the endpoint's circuit is open
+				BoxLangAjax.circuitBreaker.allow(url);
 
-			// Wait before retry (exponential backoff)
-			if (attempt < BoxLangAjax.config.retryAttempts) {
-				await new Promise((resolve) =>
-					setTimeout(
-						resolve,
-						BoxLangAjax.config.retryDelay * Math.pow(2, attempt - 1)
-					)
+				const result = await BoxLangAjax.requestQueue.schedule(
+					attemptFetch,
+					{
+						priority: options.priority,
+						container: options.container,
+					}
+				);
+				BoxLangAjax.circuitBreaker.success(url);
+				BoxLangAjax.metrics.record(
+					component,
+					url,
+					Object.assign({ retries: attempt - 1 }, sample)
 				);
+				return result;
+			} catch (error) {
+				// A circuit opened by our own earlier attempts reports the error that opened it
+				if (error.name === "CircuitOpenError") {
+					lastError = lastError || error;
+					break;
+				}
+
+				lastError = error;
+
+				const retryable = BoxLangAjax.utils.isRetryableError(error);
+
+				// Server side failures trip the breaker, answers such as 404 prove the backend is up
+				if (retryable) {
+					BoxLangAjax.circuitBreaker.failure(url);
+				} else if (error.status) {
+					BoxLangAjax.circuitBreaker.success(url);
+				} else {
+					BoxLangAjax.circuitBreaker.release(url);
+				}
+
+				// Don't retry cancelled requests, client errors or non-idempotent requests that may have been processed
+				if (
+					!retryable ||
+					(!idempotent && ![429, 503].includes(error.status)) ||
+					attempt >= BoxLangAjax.config.retryAttempts
+				) {
+					break;
+				}
+
+				const delay = BoxLangAjax.utils.retryDelay(attempt, error);
+				if (delay === null) {
+					break;
+				}
+				await new Promise((resolve) => setTimeout(resolve, delay));
 			}
 		}
+
+		if (lastError.name !== "AbortError") {
+			BoxLangAjax.metrics.record(
+				component,
+				url,
+				Object.assign({}, sample, { error: true, retries: attempts - 1 })
+			);
+		}
+
+		console.error("BoxLang AJAX Error after retries:", lastError);
+		throw lastError;
+	};
+
+	// Background GETs issued in the same tick are rendered together by the batch endpoint
+	const send = BoxLangAjax.batcher.accepts(url, fetchOptions)
+		? function () {
+				return BoxLangAjax.batcher.add(url, options);
+		  }
+		: load;
+
+	// Identical concurrent GET requests share a single in-flight request. A caller's own signal or
+	// onChunk only applies to its own request, so those are never shared
+	if (
+		fetchOptions.method.toUpperCase() !== "GET" ||
+		options.dedupe === false ||
+		options.signal ||
+		options.onChunk
+	) {
+		return send();
+	}
+
+	const inflightKey = BoxLangAjax.utils.requestKey(
+		fetchOptions.method,
+		url,
+		fetchOptions.headers
+	);
+	// A queued request is dropped when its container leaves the DOM, so only the same container shares it
+	const container = options.container || null;
+	const inflight = BoxLangAjax.inflight.get(inflightKey);
+	if (inflight && inflight.container === container) {
+		return inflight.promise;
+	}
+	if (inflight) {
+		return send();
+	}
+
+	const request = send().finally(function () {
+		if (BoxLangAjax.inflight.get(inflightKey) === entry) {
+			BoxLangAjax.inflight.delete(inflightKey);
+		}
+	});
+	const entry = { promise: request, container: container };
+	BoxLangAjax.inflight.set(inflightKey, entry);
+	return request;
+};
+
+/**
+ * Build the RequestInit of a fetch() call from fetchContent() options: method, headers, body,
+ * credentials, cache and the signal only. Options such as priority, container, timeout or
+ * onChunk are ours, and browsers reject an unknown RequestInit.priority with a TypeError, so
+ * the queue priority is mapped to a fetch priority hint instead.
+ */
+BoxLangAjax.utils.requestInit = function (options, signal) {
+	const init = { method: options.method, headers: options.headers };
+	["body", "credentials", "cache"].forEach(function (key) {
+		if (options[key] !== undefined) {
+			init[key] = options[key];
+		}
+	});
+	if (signal) {
+		init.signal = signal;
+	}
+
+	const hint = BoxLangAjax.utils.fetchPriority(options.priority);
+	if (hint) {
+		init.priority = hint;
+	}
+	return init;
+};
+
+/**
+ * Map a request queue priority to a fetch() priority hint: high, low or auto. Unknown values
+ * give no hint.
+ */
+BoxLangAjax.utils.fetchPriority = function (priority) {
+	switch (priority) {
+		case "visible":
+		case "high":
+			return "high";
+		case "prefetch":
+		case "background":
+		case "low":
+			return "low";
+		case "auto":
+			return "auto";
+		default:
+			return null;
+	}
+};
+
+/**
+ * Read a text response body as it arrives, handing every decoded chunk to onChunk(chunk, offset)
+ */
+BoxLangAjax.utils.readStream = async function (body, onChunk) {
+	const reader = body.getReader();
+	const decoder = new TextDecoder();
+	let text = "";
+
+	for (;;) {
+		const { done, value } = await reader.read();
+		const chunk = decoder.decode(value, { stream: !done });
+		if (chunk) {
+			onChunk(chunk, text.length);
+			text += chunk;
+		}
+		if (done) {
+			return text;
+		}
+	}
+};
+
+/**
+ * Whether a failed attempt is worth retrying: timeouts, network failures and the
+ * transient HTTP statuses in config.retryStatuses (408, 425, 429 and 5xx gateway errors)
+ */
+BoxLangAjax.utils.isRetryableError = function (error) {
+	if (error.name === "TimeoutError") {
+		return true;
+	}
+	if (error.name === "AbortError" || error.name === "CircuitOpenError") {
+		return false;
+	}
+	if (error.status) {
+		return BoxLangAjax.config.retryStatuses.includes(error.status);
+	}
+	// fetch() rejects with a TypeError on network failures
+	return error instanceof TypeError;
+};
+
+/**
+ * Milliseconds to wait before the next attempt: the server's Retry-After when given,
+ * otherwise exponential backoff with full jitter. Null when the wait exceeds retryMaxDelay.
+ */
+BoxLangAjax.utils.retryDelay = function (attempt, error) {
+	const maxDelay = BoxLangAjax.config.retryMaxDelay;
+
+	if (error && error.retryAfter !== null && error.retryAfter !== undefined) {
+		return error.retryAfter <= maxDelay ? error.retryAfter : null;
 	}
 
-	console.error("BoxLang AJAX Error after retries:", lastError);
-	throw lastError;
+	const ceiling = Math.min(
+		maxDelay,
+		BoxLangAjax.config.retryDelay * Math.pow(2, attempt - 1)
+	);
+	return Math.round(Math.random() * ceiling);
+};
+
+/**
+ * Milliseconds requested by a Retry-After header (delay in seconds or an HTTP date)
+ */
+BoxLangAjax.utils.parseRetryAfter = function (retryAfter) {
+	if (!retryAfter) {
+		return null;
+	}
+	if (/^\d+$/.test(retryAfter.trim())) {
+		return parseInt(retryAfter) * 1000;
+	}
+	const date = Date.parse(retryAfter);
+	return isNaN(date) ? null : Math.max(0, date - Date.now());
+};
+
+/**
+ * Per-endpoint circuit breaker. After circuitBreakerThreshold consecutive server side
+ * failures an endpoint (origin + path) is cut off for circuitBreakerCooldown milliseconds.
+ * Then a single probe request is let through: success closes the circuit, failure reopens it.
+ */
+BoxLangAjax.circuitBreaker = {
+	endpoints: new Map(),
+
+	endpoint: function (url) {
+		const parsed = new URL(url, window.location.href);
+		return parsed.origin + parsed.pathname;
+	},
+
+	state: function (url) {
+		const key = this.endpoint(url);
+		if (!this.endpoints.has(key)) {
+			this.endpoints.set(key, {
+				failures: 0,
+				openedAt: 0,
+				probing: false,
+			});
+		}
+		return this.endpoints.get(key);
+	},
+
+	/**
+	 * Throw a CircuitOpenError if requests to the endpoint are currently cut off
+	 */
+	allow: function (url) {
+		const state = this.endpoints.get(this.endpoint(url));
+		if (
+			!state ||
+			state.failures < BoxLangAjax.config.circuitBreakerThreshold
+		) {
+			return;
+		}
+
+		const coolingDown =
+			Date.now() - state.openedAt <
+			BoxLangAjax.config.circuitBreakerCooldown;
+		if (coolingDown || state.probing) {
+			const error = new Error(
+				"Circuit open for " + this.endpoint(url) + ", request not sent"
+			);
+			error.name = "CircuitOpenError";
+			throw error;
+		}
+
+		// Half open: let this request through as the probe
+		state.probing = true;
+	},
+
+	success: function (url) {
+		this.endpoints.delete(this.endpoint(url));
+	},
+
+	failure: function (url) {
+		const state = this.state(url);
+		state.failures++;
+		state.probing = false;
+		if (state.failures >= BoxLangAjax.config.circuitBreakerThreshold) {
+			state.openedAt = Date.now();
+		}
+	},
+
+	/**
+	 * The attempt ended without telling anything about the endpoint (e.g. cancelled)
+	 */
+	release: function (url) {
+		const state = this.endpoints.get(this.endpoint(url));
+		if (state) {
+			state.probing = false;
+		}
+	},
+
+	reset: function () {
+		this.endpoints.clear();
+	},
+};
+
+/**
+ * Coalesces GET requests for same-origin fragments issued in the same tick into a single
+ * request to the module's batch endpoint (config.batchUrl), which renders them all on the
+ * server. Background requests (auto-refresh) are batched by default, others with batch: true.
+ * Fragments the server can't relay, fragments that fail with a transient error, and a batch
+ * that fails as a whole fall back to individual requests. A batch endpoint that answers 404
+ * (the module isn't installed there) is not used again. Every batched fragment is recorded in
+ * the metrics under its own component and URL.
+ */
+BoxLangAjax.batcher = {
+	pending: [],
+	scheduled: false,
+	disabled: false,
+
+	/**
+	 * Whether a request can be folded into a batch
+	 */
+	accepts: function (url, options) {
+		if (
+			this.disabled ||
+			!BoxLangAjax.config.batchUrl ||
+			options.batch === false
+		) {
+			return false;
+		}
+		if (options.batch !== true && options.priority !== "background") {
+			return false;
+		}
+		if (
+			options.method.toUpperCase() !== "GET" ||
+			options.body ||
+			typeof options.onChunk === "function"
+		) {
+			return false;
+		}
+		return (
+			new URL(url, window.location.href).origin === window.location.origin
+		);
+	},
+
+	/**
+	 * Queue a fragment for the next batch
+	 */
+	add: function (url, options) {
+		const self = this;
+		return new Promise(function (resolve, reject) {
+			const parsed = new URL(url, window.location.href);
+			self.pending.push({
+				url: url,
+				path: parsed.pathname + parsed.search,
+				options: options,
+				resolve: resolve,
+				reject: reject,
+			});
+
+			if (!self.scheduled) {
+				self.scheduled = true;
+				setTimeout(function () {
+					self.flush();
+				}, 0);
+			}
+		});
+	},
+
+	flush: function () {
+		const entries = this.pending.splice(0);
+		const size = BoxLangAjax.config.batchMaxFragments;
+		this.scheduled = false;
+
+		for (let i = 0; i < entries.length; i += size) {
+			this.send(entries.slice(i, i + size));
+		}
+	},
+
+	send: function (entries) {
+		const self = this;
+
+		if (entries.length === 1) {
+			self.single(entries[0]);
+			return;
+		}
+
+		const endFetch = BoxLangAjax.metrics.start("fetch");
+
+		BoxLangAjax.utils
+			.fetchContent(BoxLangAjax.config.batchUrl, {
+				method: "POST",
+				headers: {
+					"X-Requested-With": "XMLHttpRequest",
+					"Content-Type": "application/json",
+					Accept: "application/json",
+				},
+				body: JSON.stringify({
+					fragments: entries.map(function (entry, index) {
+						return {
+							id: String(index),
+							url: entry.path,
+							etag:
+								(entry.options.conditional &&
+									BoxLangAjax.etags.get(entry.url)) ||
+								"",
+						};
+					}),
+				}),
+				priority: "background",
+				component: "batch",
+			})
+			.then(function (response) {
+				const fragments = (response && response.fragments) || [];
+				const latency = endFetch();
+				entries.forEach(function (entry, index) {
+					const fragment = fragments.find(function (candidate) {
+						return candidate.id === String(index);
+					});
+					if (fragment) {
+						self.settle(entry, fragment, latency);
+					} else {
+						self.single(entry);
+					}
+				});
+			})
+			.catch(function (error) {
+				// Batch endpoint unavailable, fall back to individual requests
+				if (error.status === 404) {
+					self.disabled = true;
+				}
+				entries.forEach(function (entry) {
+					self.single(entry);
+				});
+			});
+	},
+
+	/**
+	 * Resolve a batched request from its fragment result
+	 *
+	 * @param {Object} entry - The queued request
+	 * @param {Object} fragment - The fragment result of the batch endpoint
+	 * @param {number} latency - Milliseconds the batch request took
+	 */
+	settle: function (entry, fragment, latency) {
+		// Not relayed by the batch endpoint, request it on its own
+		if (fragment.fallback) {
+			this.single(entry);
+			return;
+		}
+
+		const error = new Error(
+			`HTTP ${fragment.status}: ${fragment.statusText || ""}`
+		);
+		error.status = fragment.status;
+		const failed = !(
+			(fragment.status >= 200 && fragment.status < 300) ||
+			fragment.status === 304
+		);
+
+		// Transient failures get the full retry treatment of an individual request, which records its own metrics
+		if (failed && BoxLangAjax.utils.isRetryableError(error)) {
+			this.single(entry);
+			return;
+		}
+
+		BoxLangAjax.metrics.record(
+			entry.options.component ||
+				BoxLangAjax.metrics.componentOf(entry.options.container),
+			entry.url,
+			{
+				latency: latency,
+				bytes: (fragment.body || "").length,
+				error: failed,
+			}
+		);
+
+		if (entry.options.etag || entry.options.conditional) {
+			BoxLangAjax.utils.rememberETag(entry.url, fragment.etag);
+		}
+
+		if (fragment.status === 304 && entry.options.conditional) {
+			entry.resolve(BoxLangAjax.NOT_MODIFIED);
+			return;
+		}
+
+		if (fragment.status >= 200 && fragment.status < 300) {
+			let data = fragment.body;
+			if ((fragment.contentType || "").includes("application/json")) {
+				try {
+					data = JSON.parse(data);
+				} catch (error) {
+					// Keep the raw body
+				}
+			}
+
+			if (entry.options.useCache !== false) {
+				BoxLangAjax.utils.storeResponse(
+					entry.url,
+					data,
+					fragment.contentType,
+					fragment.cacheControl,
+					entry.options
+				);
+			}
+
+			entry.resolve(data);
+			return;
+		}
+
+		entry.reject(error);
+	},
+
+	single: function (entry) {
+		BoxLangAjax.utils
+			.fetchContent(
+				entry.url,
+				Object.assign({}, entry.options, { batch: false, dedupe: false })
+			)
+			.then(entry.resolve, entry.reject);
+	},
+};
+
+/**
+ * Identity of a request: method, URL and the headers that shape the response
+ */
+BoxLangAjax.utils.requestKey = function (method, url, headers = {}) {
+	const headerKey = Object.keys(headers)
+		.map(function (name) {
+			return name.toLowerCase() + ":" + headers[name];
+		})
+		.sort()
+		.join("\n");
+	return method.toUpperCase() + " " + url + "\n" + headerKey;
+};
+
+/**
+ * Whether an element is currently rendered inside the viewport
+ */
+BoxLangAjax.utils.isInViewport = function (element) {
+	if (!element || !element.isConnected) {
+		return false;
+	}
+	const rect = element.getBoundingClientRect();
+	return (
+		rect.width + rect.height > 0 &&
+		rect.bottom > 0 &&
+		rect.right > 0 &&
+		rect.top < window.innerHeight &&
+		rect.left < window.innerWidth
+	);
 };
 
 /**
  * Load content into a specific container element
+ *
+ * Options are passed on to fetchContent, plus:
+ * - loadingTemplate / errorTemplate : HTML shown while loading / on failure
+ * - swr : true to render a cached fragment right away and revalidate it in the background
+ * - morph : true to morph the container DOM instead of replacing it (also enabled by data-morph="true")
+ * - conditional : true to skip the swap when the container already shows this URL and the server
+ *   reports the fragment unchanged (304), see fetchContent
+ * - stream : true to render the fragment progressively while it downloads (also enabled by
+ *   data-stream="true", ignored when morphing)
  */
 BoxLangAjax.utils.loadIntoContainer = function (
 	containerId,
@@ -124,37 +1281,134 @@ BoxLangAjax.utils.loadIntoContainer = function (
 		return Promise.reject(new Error("Container not found: " + containerId));
 	}
 
+	// Containers on screen go first, off-screen ones (e.g. hidden tabs) are prefetches
+	const requestOptions = Object.assign(
+		{
+			container: container,
+			priority: BoxLangAjax.utils.isInViewport(container)
+				? "visible"
+				: "prefetch",
+		},
+		options
+	);
+
+	// Only a refresh of what the container already shows can be answered with "not modified"
+	const unchanged =
+		options.conditional === true &&
+		BoxLangAjax.loadedUrls.get(container) === url;
+	if (options.conditional === true) {
+		requestOptions.etag = true;
+		requestOptions.conditional = unchanged;
+	}
+
+	// Morphing keeps unchanged nodes, and the current content is shown until the new one arrives
+	const morph = BoxLangAjax.utils.shouldMorph(container, options);
+
+	// Swap the content in (unless it was streamed in already) and announce it
+	const render = function (content, streamed = false) {
+		if (content === BoxLangAjax.NOT_MODIFIED) {
+			container.classList.remove("bx-loading");
+			return content;
+		}
+
+		const endSwap = BoxLangAjax.metrics.start("swap");
+
+		if (streamed) {
+			// Already in place
+		} else if (morph && typeof content === "string") {
+			BoxLangAjax.utils.morph(container, content);
+		} else {
+			container.innerHTML = content;
+		}
+		container.classList.remove("bx-loading");
+		container.classList.add("bx-source-loaded");
+		BoxLangAjax.loadedUrls.set(container, url);
+
+		// Trigger custom event for loaded content
+		const event = new CustomEvent("boxlang-content-loaded", {
+			detail: {
+				url: url,
+				container: containerId,
+				content: content,
+			},
+			bubbles: true,
+		});
+		container.dispatchEvent(event);
+
+		// Execute any scripts in the loaded content
+		BoxLangAjax.utils.executeScripts(container);
+
+		BoxLangAjax.metrics.record(
+			options.component || BoxLangAjax.metrics.componentOf(container),
+			url,
+			{ swap: endSwap() }
+		);
+
+		return content;
+	};
+
+	// Stale-while-revalidate: show the cached fragment right away, refresh it in the background
+	// and only swap again when the server returns something different
+	if (options.swr) {
+		const cached = BoxLangAjax.cache.peek(url);
+		if (cached && typeof cached.data === "string") {
+			render(cached.data);
+
+			if (cached.expires > Date.now()) {
+				return Promise.resolve(cached.data);
+			}
+
+			return BoxLangAjax.utils
+				.fetchContent(
+					url,
+					Object.assign({}, requestOptions, { revalidate: true })
+				)
+				.then(function (content) {
+					return content === cached.data ? content : render(content);
+				})
+				.catch(function (error) {
+					// Keep showing the stale content, it is better than an error
+					console.warn("Revalidation failed for " + url + ":", error);
+					return cached.data;
+				});
+		}
+	}
+
 	// Show loading indicator
 	const originalContent = container.innerHTML;
 	const loadingHtml =
 		options.loadingTemplate || '<div class="bx-loading">Loading...</div>';
-	container.innerHTML = loadingHtml;
+	if (!unchanged && (!morph || !container.hasChildNodes())) {
+		container.innerHTML = loadingHtml;
+	}
 
 	// Add loading class for CSS styling
 	container.classList.add("bx-loading");
 
-	return BoxLangAjax.utils
-		.fetchContent(url, options)
-		.then(function (content) {
-			container.innerHTML = content;
-			container.classList.remove("bx-loading");
-			container.classList.add("bx-source-loaded");
-
-			// Trigger custom event for loaded content
-			const event = new CustomEvent("boxlang-content-loaded", {
-				detail: {
-					url: url,
-					container: containerId,
-					content: content,
-				},
-				bubbles: true,
-			});
-			container.dispatchEvent(event);
-
-			// Execute any scripts in the loaded content
-			BoxLangAjax.utils.executeScripts(container);
+	// Streaming shows the finished parts of the fragment while the rest is still downloading
+	let streamer = null;
+	const stream =
+		options.stream !== undefined
+			? options.stream === true
+			: container.dataset.stream === "true";
+	if (stream && !morph) {
+		requestOptions.onChunk = function (chunk, offset) {
+			// A retried attempt starts over with a fresh parser
+			if (offset === 0 || !streamer) {
+				streamer = BoxLangAjax.utils.createStreamRenderer(container);
+			}
+			streamer.write(chunk);
+		};
+	}
 
-			return content;
+	return BoxLangAjax.utils
+		.fetchContent(url, requestOptions)
+		.then(function (content) {
+			if (streamer) {
+				streamer.close();
+				return render(content, true);
+			}
+			return render(content);
 		})
 		.catch(function (error) {
 			const errorTemplate =
@@ -190,6 +1444,178 @@ BoxLangAjax.utils.loadIntoContainer = function (
 		});
 };
 
+/**
+ * Progressive HTML renderer for streamed fragments. Chunks are fed to the parser of an inert
+ * document, and every node the parser has finished is moved into the container right away.
+ * Elements still open (e.g. the table whose rows are arriving) get an empty copy in the
+ * container that their finished children are moved into, so long tables fill row by row.
+ * Scripts are inert until executeScripts() runs them once the whole fragment is in.
+ */
+BoxLangAjax.utils.createStreamRenderer = function (container) {
+	const doc = document.implementation.createHTMLDocument("");
+	// Open elements of the parsing document and their copies in the container
+	const copies = new WeakMap();
+	// Elements whose text content must arrive whole
+	const atomic =
+		/^(SCRIPT|STYLE|TEXTAREA|TITLE|TEMPLATE|NOSCRIPT|IFRAME|SELECT)$/;
+
+	doc.open();
+	doc.write("<!DOCTYPE html><body>");
+	container.replaceChildren();
+
+	// Move finished children of a parsed node into its live counterpart, the last child may still be open
+	const sync = function (from, to, finished) {
+		while (
+			from.firstChild &&
+			(finished || from.firstChild !== from.lastChild)
+		) {
+			const node = from.firstChild;
+			const copy = copies.get(node);
+			if (copy) {
+				sync(node, copy, true);
+				node.remove();
+			} else {
+				to.appendChild(node);
+			}
+		}
+
+		const open = from.lastChild;
+		if (
+			!finished &&
+			open &&
+			open.nodeType === Node.ELEMENT_NODE &&
+			!atomic.test(open.nodeName)
+		) {
+			let copy = copies.get(open);
+			if (!copy) {
+				copy = open.cloneNode(false);
+				copies.set(open, copy);
+				to.appendChild(copy);
+			}
+			sync(open, copy, false);
+		}
+	};
+
+	return {
+		write: function (chunk) {
+			doc.write(chunk);
+			sync(doc.body, container, false);
+		},
+		close: function () {
+			doc.close();
+			sync(doc.body, container, true);
+		},
+	};
+};
+
+/**
+ * Morph the children of a live element into the given HTML (or the children of a node),
+ * touching only what differs. Unchanged nodes are kept, so focus, scroll position, input
+ * state and layout survive a refresh. Elements are matched by id and tag name first, then by
+ * position and tag name. Subtrees marked with data-morph-ignore are left untouched.
+ */
+BoxLangAjax.utils.morph = function (target, content) {
+	let source = content;
+	if (typeof content === "string") {
+		source = document.createElement("template");
+		source.innerHTML = content;
+		source = source.content;
+	}
+
+	const sameNode = function (from, to) {
+		return (
+			from.nodeType === to.nodeType &&
+			from.nodeName === to.nodeName &&
+			(from.nodeType !== Node.ELEMENT_NODE || from.id === to.id)
+		);
+	};
+
+	// An id only matches an element of the same tag, anything else is replaced by the new element
+	const findById = function (start, to) {
+		for (let node = start; node; node = node.nextSibling) {
+			if (node.id === to.id && node.tagName === to.tagName) {
+				return node;
+			}
+		}
+		return null;
+	};
+
+	const morphAttributes = function (from, to) {
+		Array.from(to.attributes).forEach(function (attribute) {
+			if (from.getAttribute(attribute.name) !== attribute.value) {
+				from.setAttribute(attribute.name, attribute.value);
+			}
+		});
+		Array.from(from.attributes).forEach(function (attribute) {
+			if (!to.hasAttribute(attribute.name)) {
+				from.removeAttribute(attribute.name);
+			}
+		});
+	};
+
+	const morphNode = function (from, to) {
+		if (from.nodeType !== Node.ELEMENT_NODE) {
+			if (from.nodeValue !== to.nodeValue) {
+				from.nodeValue = to.nodeValue;
+			}
+			return;
+		}
+		if (from.hasAttribute("data-morph-ignore")) {
+			return;
+		}
+		morphAttributes(from, to);
+		morphChildren(from, to);
+	};
+
+	const morphChildren = function (fromParent, toParent) {
+		let fromChild = fromParent.firstChild;
+		let toChild = toParent.firstChild;
+
+		while (toChild) {
+			const nextTo = toChild.nextSibling;
+			let match = null;
+
+			if (toChild.nodeType === Node.ELEMENT_NODE && toChild.id) {
+				match = findById(fromChild, toChild);
+			} else if (fromChild && sameNode(fromChild, toChild)) {
+				match = fromChild;
+			}
+
+			if (match) {
+				if (match !== fromChild) {
+					fromParent.insertBefore(match, fromChild);
+				}
+				morphNode(match, toChild);
+				fromChild = match.nextSibling;
+			} else {
+				fromParent.insertBefore(toChild, fromChild);
+			}
+
+			toChild = nextTo;
+		}
+
+		// Whatever is left over no longer exists in the new content
+		while (fromChild) {
+			const nextFrom = fromChild.nextSibling;
+			fromParent.removeChild(fromChild);
+			fromChild = nextFrom;
+		}
+	};
+
+	morphChildren(target, source);
+	return target;
+};
+
+/**
+ * Whether refreshes of an element should morph its DOM instead of replacing it
+ */
+BoxLangAjax.utils.shouldMorph = function (element, options = {}) {
+	if (options.morph !== undefined) {
+		return options.morph === true;
+	}
+	return element.dataset.morph === "true";
+};
+
 /**
  * Handle AJAX links - finds the nearest AJAX container and loads content
  */
@@ -236,14 +1662,37 @@ BoxLangAjax.utils.handleAjaxLink = function (url, event) {
 	}
 };
 
+/**
+ * External scripts already on the page (absolute URLs), each src is only ever loaded once
+ */
+BoxLangAjax.loadedScripts = BoxLangAjax.loadedScripts || new Set();
+
+/**
+ * Compiled inline scripts by source text, so refreshed fragments don't re-parse the same code
+ */
+BoxLangAjax.compiledScripts = BoxLangAjax.compiledScripts || new Map();
+
 /**
  * Execute JavaScript code found in loaded content
  */
 BoxLangAjax.utils.executeScripts = function (container) {
 	const scripts = container.querySelectorAll("script");
 	scripts.forEach(function (script) {
+		// Leave data blocks and templates (e.g. type="text/template") alone
+		if (
+			script.type &&
+			!/^(text|application)\/(javascript|ecmascript)$/i.test(script.type)
+		) {
+			return;
+		}
+
 		if (script.src) {
-			// External script
+			// External script, the src property is always absolute
+			if (BoxLangAjax.loadedScripts.has(script.src)) {
+				return;
+			}
+			BoxLangAjax.loadedScripts.add(script.src);
+
 			const newScript = document.createElement("script");
 			newScript.src = script.src;
 			newScript.async = false;
@@ -251,7 +1700,7 @@ BoxLangAjax.utils.executeScripts = function (container) {
 		} else if (script.textContent) {
 			// Inline script
 			try {
-				eval(script.textContent);
+				BoxLangAjax.utils.compileScript(script.textContent)();
 			} catch (error) {
 				console.error("Error executing loaded script:", error);
 			}
@@ -259,6 +1708,161 @@ BoxLangAjax.utils.executeScripts = function (container) {
 	});
 };
 
+/**
+ * Compile inline script source once and reuse the function on later loads. The cache is
+ * bounded, the least recently used scripts are dropped first.
+ */
+BoxLangAjax.utils.compileScript = function (source) {
+	const compiled = BoxLangAjax.compiledScripts;
+	let fn = compiled.get(source);
+
+	if (fn) {
+		compiled.delete(source);
+	} else {
+		fn = new Function(source);
+		if (compiled.size >= 200) {
+			compiled.delete(compiled.keys().next().value);
+		}
+	}
+
+	compiled.set(source, fn);
+	return fn;
+};
+
+/**
+ * Register the external scripts that are already part of the page
+ */
+BoxLangAjax.utils.registerPageScripts = function () {
+	document.querySelectorAll("script[src]").forEach(function (script) {
+		BoxLangAjax.loadedScripts.add(script.src);
+	});
+};
+
+/**
+ * Component initializers. Components render data attributes only, and the component scripts
+ * register one initializer per selector that wires up every matching element. Each initializer
+ * remembers the elements it has seen, so scanning the same subtree again is harmless. Once the
+ * DOM is ready, a MutationObserver runs them on every subtree inserted later (AJAX fragments,
+ * AjaxLink loads, scripts building markup), so only new content is ever scanned.
+ */
+BoxLangAjax.initializers = BoxLangAjax.initializers || [];
+BoxLangAjax.componentObserver = BoxLangAjax.componentObserver || null;
+
+/**
+ * Register an initializer for the elements matching a selector. Matching elements already in
+ * the page are initialized right away when the DOM is ready.
+ */
+BoxLangAjax.utils.registerInitializer = function (selector, init) {
+	const initializer = { selector: selector, init: init, done: new WeakSet() };
+	BoxLangAjax.initializers.push(initializer);
+	BoxLangAjax.initializerSelector = BoxLangAjax.initializers
+		.map(function (candidate) {
+			return candidate.selector;
+		})
+		.join(",");
+
+	if (document.readyState !== "loading") {
+		BoxLangAjax.utils.runInitializer(initializer, document);
+	}
+	return initializer;
+};
+
+/**
+ * Initialize the components inside a root element (the root included)
+ */
+BoxLangAjax.utils.initComponents = function (root = document) {
+	const selector = BoxLangAjax.initializerSelector;
+	if (!selector || !root || typeof root.querySelector !== "function") {
+		return;
+	}
+
+	// One combined query rules out subtrees without any component (e.g. sorted grid rows)
+	const matchesRoot =
+		typeof root.matches === "function" && root.matches(selector);
+	if (!matchesRoot && !root.querySelector(selector)) {
+		return;
+	}
+
+	BoxLangAjax.initializers.forEach(function (initializer) {
+		BoxLangAjax.utils.runInitializer(initializer, root);
+	});
+};
+
+/**
+ * Initialize the components of every subtree inserted into the page from now on
+ */
+BoxLangAjax.utils.observeComponents = function () {
+	if (
+		BoxLangAjax.componentObserver ||
+		typeof MutationObserver !== "function"
+	) {
+		return;
+	}
+
+	BoxLangAjax.componentObserver = new MutationObserver(function (mutations) {
+		const roots = new Set();
+		mutations.forEach(function (mutation) {
+			mutation.addedNodes.forEach(function (node) {
+				// Nodes removed again in the same batch are skipped
+				if (node.nodeType === 1 && node.isConnected) {
+					roots.add(node);
+				}
+			});
+		});
+		roots.forEach(function (root) {
+			BoxLangAjax.utils.initComponents(root);
+		});
+	});
+
+	BoxLangAjax.componentObserver.observe(document.documentElement, {
+		childList: true,
+		subtree: true,
+	});
+};
+
+BoxLangAjax.utils.runInitializer = function (initializer, root) {
+	if (!root || typeof root.querySelectorAll !== "function") {
+		return;
+	}
+
+	const elements = Array.from(root.querySelectorAll(initializer.selector));
+	if (
+		typeof root.matches === "function" &&
+		root.matches(initializer.selector)
+	) {
+		elements.unshift(root);
+	}
+
+	elements.forEach(function (element) {
+		if (initializer.done.has(element)) {
+			return;
+		}
+		initializer.done.add(element);
+		try {
+			initializer.init(element);
+		} catch (error) {
+			console.error(
+				"Failed to initialize " + initializer.selector + ":",
+				error
+			);
+		}
+	});
+};
+
+/**
+ * Resolve a handler named in a data attribute (e.g. data-on-load="app.grid.loaded") to a
+ * function, null when it is not defined
+ */
+BoxLangAjax.utils.resolveHandler = function (name) {
+	if (!name) {
+		return null;
+	}
+	const handler = name.split(".").reduce(function (scope, key) {
+		return scope == null ? undefined : scope[key];
+	}, window);
+	return typeof handler === "function" ? handler : null;
+};
+
 /**
  * Form submission with AJAX
  */
@@ -287,6 +1891,326 @@ BoxLangAjax.utils.submitForm = function (form, targetContainer) {
 	return BoxLangAjax.utils.loadIntoContainer(targetContainer, url, options);
 };
 
+/**
+ * Lazy component scripts. With <bx:ajaximport lazy="true" />, the layout, div, grid, pod and
+ * tooltip scripts are not part of the page. Each one is registered with its URL and loaded the
+ * first time one of its elements comes within config.lazyRootMargin of the viewport, or is
+ * hovered, touched or focused. The loaded script registers its initializers, which wire up every
+ * element already in the page. Clicks and Enter or Space key presses on an element whose script
+ * is still loading are held back and replayed once it ran. Code calling BoxLangAjax.components.*
+ * directly can wait for a script with load(name).
+ */
+BoxLangAjax.lazyLoader = {
+	// Elements each lazy script wires up
+	selectors: {
+		layout: ".bx-layout",
+		div: ".bx-div, [data-refresh-target], [data-load-more-target]",
+		grid: ".bx-grid, form.bx-grid-update",
+		pod: ".bx-pod",
+		tooltip: ".bx-tooltip-trigger, [data-tooltip-hover], [data-tooltip-click]",
+	},
+	components: new Map(),
+
+	/**
+	 * Load the script of a component once one of its elements is about to be used
+	 */
+	register: function (name, url) {
+		const self = this;
+		if (self.components.has(name) || !self.selectors[name]) {
+			return;
+		}
+		self.components.set(name, {
+			url: url,
+			promise: null,
+			observer: null,
+			loaded: false,
+		});
+		BoxLangAjax.utils.registerInitializer(
+			self.selectors[name],
+			function (element) {
+				self.watch(name, element);
+			}
+		);
+	},
+
+	watch: function (name, element) {
+		const self = this;
+		const component = self.components.get(name);
+		if (component.promise) {
+			return;
+		}
+
+		// Without IntersectionObserver the script is loaded right away
+		if (!("IntersectionObserver" in window)) {
+			self.request(name);
+			return;
+		}
+		if (!component.observer) {
+			component.observer = new IntersectionObserver(
+				function (entries) {
+					if (
+						entries.some(function (entry) {
+							return entry.isIntersecting;
+						})
+					) {
+						self.request(name);
+					}
+				},
+				{ rootMargin: BoxLangAjax.config.lazyRootMargin }
+			);
+		}
+		component.observer.observe(element);
+
+		// Hidden elements never intersect, the first interaction loads the script instead
+		let loading = null;
+		const interact = function (event) {
+			if (loading) {
+				return;
+			}
+			loading = self.request(name).then(function () {
+				self.activationEvents.forEach(function (type) {
+					element.removeEventListener(type, hold, true);
+				});
+				// The pointer may still be over the element, let its new listeners know
+				if (event.type === "pointerover" && element.matches(":hover")) {
+					element.dispatchEvent(new MouseEvent("mouseenter"));
+				}
+				// Then replay what the user did meanwhile, now that the listeners exist
+				held.splice(0).forEach(function (heldEvent) {
+					heldEvent.target.dispatchEvent(
+						new heldEvent.constructor(heldEvent.type, heldEvent)
+					);
+				});
+			});
+		};
+		["pointerover", "touchstart", "focusin"].forEach(function (type) {
+			element.addEventListener(type, interact, { once: true, passive: true });
+		});
+
+		// Activations before the script ran would reach no listener (or follow a link), so they
+		// are held back and replayed once it loaded, or failed to load
+		const held = [];
+		const hold = function (event) {
+			if (
+				component.loaded ||
+				(event.type === "keydown" &&
+					!self.activationKeys.includes(event.key))
+			) {
+				return;
+			}
+			event.preventDefault();
+			event.stopImmediatePropagation();
+			held.push(event);
+			interact(event);
+		};
+		self.activationEvents.forEach(function (type) {
+			element.addEventListener(type, hold, true);
+		});
+	},
+
+	// Events held back while a component script loads, and the keys that make a keydown one
+	activationEvents: ["click", "keydown"],
+	activationKeys: ["Enter", " "],
+
+	/**
+	 * Load the script of a component, resolves once it ran (right away for other scripts)
+	 */
+	load: function (name) {
+		const component = this.components.get(name);
+		if (!component) {
+			return Promise.resolve();
+		}
+
+		if (!component.promise) {
+			if (component.observer) {
+				component.observer.disconnect();
+			}
+			component.promise = new Promise(function (resolve, reject) {
+				const script = document.createElement("script");
+				script.src = component.url;
+
+				// A fragment may have brought the script in already
+				if (BoxLangAjax.loadedScripts.has(script.src)) {
+					component.loaded = true;
+					resolve();
+					return;
+				}
+				BoxLangAjax.loadedScripts.add(script.src);
+
+				script.onload = function () {
+					component.loaded = true;
+					resolve();
+				};
+				script.onerror = function () {
+					// The next element or interaction tries again
+					BoxLangAjax.loadedScripts.delete(script.src);
+					component.promise = null;
+					reject(new Error("BoxLang AJAX: failed to load " + component.url));
+				};
+				document.head.appendChild(script);
+			});
+		}
+		return component.promise;
+	},
+
+	request: function (name) {
+		return this.load(name).catch(function (error) {
+			console.error(error.message);
+		});
+	},
+};
+
+/**
+ * Shared scheduler behind every auto-refresh. A single timer ticks every
+ * config.refreshTick milliseconds and refresh times are aligned to those ticks, so
+ * refreshes that share an interval fire together. Nothing runs while the page is
+ * hidden, and elements scrolled out of view (or hidden) are skipped. When a skipped
+ * element becomes visible again it catches up with one refresh, not all the missed ones.
+ */
+BoxLangAjax.refreshScheduler = {
+	tasks: new Map(),
+	nextId: 1,
+	timer: null,
+	observer: null,
+
+	/**
+	 * Refresh callback for an element every interval milliseconds, returns the task id
+	 */
+	register: function (element, interval, callback) {
+		const tick = BoxLangAjax.config.refreshTick;
+		const id = this.nextId++;
+
+		// An element that is already observed won't be reported again, reuse what we know
+		const sibling = Array.from(this.tasks.values()).find(function (task) {
+			return task.element === element;
+		});
+
+		this.tasks.set(id, {
+			element: element,
+			interval: Math.max(tick, interval),
+			callback: callback,
+			nextDue: this.align(Date.now() + interval),
+			visible: sibling ? sibling.visible : !this.getObserver(),
+			missed: false,
+		});
+
+		if (this.observer) {
+			this.observer.observe(element);
+		}
+		this.start();
+
+		return id;
+	},
+
+	/**
+	 * Stop refreshing a task
+	 */
+	unregister: function (id) {
+		const task = this.tasks.get(parseInt(id));
+		if (!task) {
+			return;
+		}
+		this.tasks.delete(parseInt(id));
+
+		// Stop observing once no other task refreshes the same element
+		const shared = Array.from(this.tasks.values()).some(function (other) {
+			return other.element === task.element;
+		});
+		if (this.observer && !shared) {
+			this.observer.unobserve(task.element);
+		}
+		if (this.tasks.size === 0) {
+			this.stop();
+		}
+	},
+
+	align: function (time) {
+		const tick = BoxLangAjax.config.refreshTick;
+		return Math.ceil(time / tick) * tick;
+	},
+
+	getObserver: function () {
+		const self = this;
+		if (!self.observer && "IntersectionObserver" in window) {
+			self.observer = new IntersectionObserver(function (entries) {
+				entries.forEach(function (entry) {
+					self.tasks.forEach(function (task) {
+						if (task.element !== entry.target) {
+							return;
+						}
+						task.visible = entry.isIntersecting;
+						if (task.visible && task.missed) {
+							self.run(task, Date.now());
+						}
+					});
+				});
+			});
+		}
+		return self.observer;
+	},
+
+	start: function () {
+		const self = this;
+		if (self.timer || document.hidden || self.tasks.size === 0) {
+			return;
+		}
+		self.timer = setInterval(function () {
+			self.tick();
+		}, BoxLangAjax.config.refreshTick);
+	},
+
+	stop: function () {
+		clearInterval(this.timer);
+		this.timer = null;
+	},
+
+	run: function (task, now) {
+		task.missed = false;
+		task.nextDue = this.align(now + task.interval);
+		try {
+			task.callback();
+		} catch (error) {
+			console.error("Auto-refresh failed:", error);
+		}
+	},
+
+	tick: function () {
+		const self = this;
+		const now = Date.now();
+
+		self.tasks.forEach(function (task, id) {
+			if (!task.element.isConnected) {
+				// Element no longer in DOM, stop refreshing
+				self.unregister(id);
+			} else if (task.nextDue <= now) {
+				if (task.visible) {
+					self.run(task, now);
+				} else {
+					// Remember to catch up once the element is visible again
+					task.missed = true;
+					task.nextDue = self.align(now + task.interval);
+				}
+			}
+		});
+	},
+
+	/**
+	 * Pause while the page is hidden, catch up once on due refreshes when it comes back
+	 */
+	handleVisibilityChange: function () {
+		if (document.hidden) {
+			this.stop();
+			return;
+		}
+		this.tick();
+		this.start();
+	},
+};
+
+document.addEventListener("visibilitychange", function () {
+	BoxLangAjax.refreshScheduler.handleVisibilityChange();
+});
+
 /**
  * Auto-refresh functionality
  */
@@ -298,33 +2222,77 @@ BoxLangAjax.utils.autoRefresh = function (containerId, url, interval) {
 	}
 
 	const refreshFn = function () {
-		if (document.contains(container)) {
-			BoxLangAjax.utils
-				.loadIntoContainer(containerId, url)
-				.catch(function (error) {
-					console.error("Auto-refresh failed:", error);
-				});
-		} else {
-			// Container no longer in DOM, stop refreshing
-			clearInterval(refreshInterval);
-		}
+		BoxLangAjax.utils
+			.loadIntoContainer(containerId, url, {
+				priority: "background",
+				conditional: true,
+			})
+			.catch(function (error) {
+				console.error("Auto-refresh failed:", error);
+			});
 	};
 
-	const refreshInterval = setInterval(refreshFn, interval);
+	const refreshId = BoxLangAjax.refreshScheduler.register(
+		container,
+		interval,
+		refreshFn
+	);
 
-	// Store interval ID for potential cleanup
+	// Store refresh ID for potential cleanup
 	if (!container.dataset.refreshIntervals) {
 		container.dataset.refreshIntervals = "";
 	}
-	container.dataset.refreshIntervals += refreshInterval + ",";
+	container.dataset.refreshIntervals += refreshId + ",";
+
+	return refreshId;
+};
 
-	return refreshInterval;
+/**
+ * Stop every auto-refresh registered for an element
+ */
+BoxLangAjax.utils.stopAutoRefresh = function (element) {
+	const ids = element.dataset.refreshIntervals;
+	if (ids) {
+		ids.split(",").forEach(function (id) {
+			if (id) {
+				BoxLangAjax.refreshScheduler.unregister(id);
+			}
+		});
+		delete element.dataset.refreshIntervals;
+	}
 };
 
+// Auto-refresh elements
+BoxLangAjax.utils.registerInitializer(
+	"[data-refresh-url][data-refresh-interval]",
+	function (element) {
+		const url = element.dataset.refreshUrl;
+		const interval = parseInt(element.dataset.refreshInterval) * 1000; // Convert to milliseconds
+		if (element.id && url && interval > 0) {
+			BoxLangAjax.utils.autoRefresh(element.id, url, interval);
+		}
+	}
+);
+
+// AJAX forms
+BoxLangAjax.utils.registerInitializer(
+	"form[data-ajax-target]",
+	function (form) {
+		form.addEventListener("submit", function (event) {
+			event.preventDefault();
+			const targetContainer = form.dataset.ajaxTarget;
+			BoxLangAjax.utils.submitForm(form, targetContainer);
+		});
+	}
+);
+
 /**
  * Initialize BoxLang AJAX on DOM ready
  */
 function initBoxLangAjax() {
+	// Scripts the page already loaded are never injected again by AJAX fragments
+	BoxLangAjax.utils.registerPageScripts();
+
 	// Set up global error handling
 	window.addEventListener("unhandledrejection", function (event) {
 		if (
@@ -336,27 +2304,9 @@ function initBoxLangAjax() {
 		}
 	});
 
-	// Initialize auto-refresh elements
-	document
-		.querySelectorAll("[data-refresh-url][data-refresh-interval]")
-		.forEach(function (element) {
-			const url = element.dataset.refreshUrl;
-			const interval = parseInt(element.dataset.refreshInterval) * 1000; // Convert to milliseconds
-			if (element.id && url && interval > 0) {
-				BoxLangAjax.utils.autoRefresh(element.id, url, interval);
-			}
-		});
-
-	// Initialize AJAX forms
-	document
-		.querySelectorAll("form[data-ajax-target]")
-		.forEach(function (form) {
-			form.addEventListener("submit", function (event) {
-				event.preventDefault();
-				const targetContainer = form.dataset.ajaxTarget;
-				BoxLangAjax.utils.submitForm(form, targetContainer);
-			});
-		});
+	// Initialize the components registered before the DOM was ready, and everything added later
+	BoxLangAjax.utils.initComponents(document);
+	BoxLangAjax.utils.observeComponents();
 
 	console.log("BoxLang AJAX initialized successfully");
 }
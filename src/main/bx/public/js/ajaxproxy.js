@@ -34,32 +34,76 @@
                     this.cfcPath = cfcPath;
                     this.timeout = 30000;
                     this.retryAttempts = 3;
+                    this.transport = BoxLangAjax.config.proxyTransport || 'form';
+                    // Results of methods the server declares cacheable (Cache-Control: max-age)
+                    this.resultCache = new Map();
                 }
                 
                 // Generic method caller using Fetch API
                 async callMethod(methodName, args = {}, options = {}) {
-                    const url = options.url || '/index.cfm';
-                    const formData = new FormData();
-                    formData.append('method', methodName);
-                    formData.append('cfc', this.cfcPath);
-                    
-                    // Add method arguments
-                    for (const [key, value] of Object.entries(args)) {
-                        if (value !== null && value !== undefined) {
-                            formData.append(key, value);
-                        }
+                    const url = options.url || BoxLangAjax.config.proxyUrl;
+                    const cacheKey = methodName + ':' + JSON.stringify(args);
+                    const cached = this.resultCache.get(cacheKey);
+                    if (cached && cached.expires > Date.now()) {
+                        return cached.value;
                     }
                     
                     const fetchOptions = {
                         method: 'POST',
-                        body: formData,
                         headers: {
                             'X-Requested-With': 'XMLHttpRequest'
                         },
                         timeout: options.timeout || this.timeout
                     };
                     
-                    return BoxLangAjax.utils.fetchContent(url, fetchOptions);
+                    if ((options.transport || this.transport) === 'json') {
+                        // Typed arguments (numbers, booleans, nested structs) bound by name on the server
+                        fetchOptions.body = JSON.stringify({ cfc: this.cfcPath, method: methodName, args: args });
+                        fetchOptions.headers['Content-Type'] = 'application/json';
+                        fetchOptions.headers['Accept'] = 'application/json';
+                    } else {
+                        const formData = new FormData();
+                        formData.append('method', methodName);
+                        formData.append('cfc', this.cfcPath);
+                        
+                        // Add method arguments
+                        for (const [key, value] of Object.entries(args)) {
+                            if (value !== null && value !== undefined) {
+                                formData.append(key, value);
+                            }
+                        }
+                        fetchOptions.body = formData;
+                    }
+                    
+                    let cacheControl = null;
+                    fetchOptions.onResponse = function(response) {
+                        cacheControl = response.headers.get('cache-control');
+                    };
+                    
+                    const result = await BoxLangAjax.utils.fetchContent(url, fetchOptions);
+                    this.cacheResult(cacheKey, result, cacheControl);
+                    return result;
+                }
+                
+                // Keep the result in memory for the max-age the server declared for the method
+                cacheResult(cacheKey, result, cacheControl) {
+                    const maxAge = /max-age=(\d+)/.exec(cacheControl || '');
+                    if (!maxAge || parseInt(maxAge[1]) <= 0) {
+                        return;
+                    }
+                    const now = Date.now();
+                    if (this.resultCache.size >= 100) {
+                        this.resultCache.forEach((entry, key) => {
+                            if (entry.expires <= now) this.resultCache.delete(key);
+                        });
+                    }
+                    this.resultCache.set(cacheKey, { value: result, expires: now + parseInt(maxAge[1]) * 1000 });
+                }
+                
+                // Drop all results kept in memory
+                clearCache() {
+                    this.resultCache.clear();
+                    return this;
                 }
                 
                 // Convenience method for synchronous-looking calls
@@ -90,6 +134,12 @@
                     this.retryAttempts = attempts;
                     return this;
                 }
+                
+                // Set the request encoding for all calls: 'form' or 'json'
+                setTransport(transport) {
+                    this.transport = transport === 'json' ? 'json' : 'form';
+                    return this;
+                }
             }
             
             // Create instance and make it globally available
@@ -155,7 +205,7 @@
                 formData.append(key, args[key]);
             });
             
-            BoxLangAjax.utils.fetchContent('/index.cfm', {
+            BoxLangAjax.utils.fetchContent(BoxLangAjax.config.proxyUrl, {
                 method: 'POST',
                 body: formData,
                 headers: {
@@ -71,15 +71,7 @@
 			const div = document.getElementById(divId);
 			if (!div) return;
 
-			const intervals = div.dataset.refreshIntervals;
-			if (intervals) {
-				intervals.split(",").forEach(function (intervalId) {
-					if (intervalId) {
-						clearInterval(parseInt(intervalId));
-					}
-				});
-				delete div.dataset.refreshIntervals;
-			}
+			BoxLangAjax.utils.stopAutoRefresh(div);
 
 			div.classList.remove("bx-auto-refreshing");
 		},
@@ -110,10 +102,14 @@
 			div.appendChild(overlay);
 
 			return BoxLangAjax.utils
-				.fetchContent(url, options)
+				.fetchContent(url, Object.assign({ container: div }, options))
 				.then(function (content) {
 					div.removeChild(overlay);
-					div.innerHTML = content;
+					if (BoxLangAjax.utils.shouldMorph(div, options)) {
+						BoxLangAjax.utils.morph(div, content);
+					} else {
+						div.innerHTML = content;
+					}
 					div.classList.add("bx-source-loaded");
 
 					// Execute scripts in loaded content
@@ -173,7 +169,7 @@
 			div.appendChild(loadingIndicator);
 
 			return BoxLangAjax.utils
-				.fetchContent(url, options)
+				.fetchContent(url, Object.assign({ container: div }, options))
 				.then(function (content) {
 					div.removeChild(loadingIndicator);
 
@@ -207,6 +203,72 @@
 		},
 	};
 
+	// Convert a bind expression (cfc:, url: or a plain URL) to the URL it loads
+	function bindUrl(expression) {
+		if (expression.startsWith("cfc:")) {
+			return expression.replace("cfc:", "/").replace(".", "/") + ".cfc";
+		}
+		if (expression.startsWith("url:")) {
+			return expression.substring(4);
+		}
+		return expression;
+	}
+
+	// Wire up a bound div (bx:div bind="..."), it exposes executeBind() for manual triggering
+	function initDivBind(div) {
+		const executeBind = function () {
+			const url = bindUrl(div.dataset.bind || "");
+
+			return BoxLangAjax.utils
+				.fetchContent(url, { container: div, component: "div" })
+				.then(function (content) {
+					div.innerHTML = content;
+					div.classList.remove("bx-bind-loading");
+					div.classList.add("bx-bind-loaded");
+					BoxLangAjax.utils.executeScripts(div);
+
+					// Fire custom event for bind success
+					const event = new CustomEvent("bindSuccess", {
+						detail: { content: content },
+					});
+					div.dispatchEvent(event);
+				})
+				.catch(function (error) {
+					console.warn("Failed to execute bind expression:", error);
+
+					const handler = BoxLangAjax.utils.resolveHandler(
+						div.dataset.onBindError
+					);
+					if (handler) {
+						handler(error.message || "Unknown error", error);
+						return;
+					}
+
+					div.innerHTML = '<div class="bx-bind-error"></div>';
+					div.firstChild.innerHTML =
+						"<p>Error executing bind expression</p><p></p>";
+					div.firstChild.lastChild.textContent =
+						"Error: " + error.message;
+					div.classList.remove("bx-bind-loading");
+					div.classList.add("bx-bind-error");
+
+					// Fire custom event for bind error
+					const event = new CustomEvent("bindError", {
+						detail: { error: error },
+					});
+					div.dispatchEvent(event);
+				});
+		};
+
+		div.executeBind = executeBind;
+
+		if (div.dataset.bindOnLoad !== "false") {
+			executeBind();
+		}
+	}
+
+	BoxLangAjax.utils.registerInitializer(".bx-div[data-bind]", initDivBind);
+
 	// Enhanced div event handling for AJAX
 	function enhanceDivEvents() {
 		// Set up click handlers for divs with data-click-url
@@ -247,97 +309,98 @@
 		);
 	}
 
-	// Auto-load content for divs with data-source
-	function autoLoadDivContent() {
-		document
-			.querySelectorAll(".bx-div[data-source]")
-			.forEach(function (div) {
-				const url = div.dataset.source;
-				const delay = parseInt(div.dataset.loadDelay) || 0;
-				const loadType = div.dataset.loadType || "replace";
-
-				if (url && div.id) {
-					setTimeout(function () {
-						if (loadType === "overlay") {
-							BoxLangAjax.components.div.loadWithOverlay(
-								div.id,
-								url
-							);
-						} else {
-							BoxLangAjax.utils.loadIntoContainer(div.id, url);
-						}
-					}, delay);
+	// Auto-load content for a div with data-source
+	function autoLoadDivContent(div) {
+		const url = div.dataset.source;
+		const delay = parseInt(div.dataset.loadDelay) || 0;
+		const loadType = div.dataset.loadType || "replace";
+
+		if (url && div.id) {
+			setTimeout(function () {
+				if (loadType === "overlay") {
+					BoxLangAjax.components.div.loadWithOverlay(div.id, url);
+				} else {
+					BoxLangAjax.utils.loadIntoContainer(div.id, url);
 				}
-			});
+			}, delay);
+		}
 	}
 
-	// Set up auto-refresh for divs
-	function setupAutoRefresh() {
-		document
-			.querySelectorAll(".bx-div[data-refresh-interval]")
-			.forEach(function (div) {
-				const interval = parseInt(div.dataset.refreshInterval) * 1000; // Convert to milliseconds
-				const url = div.dataset.source || div.dataset.refreshUrl;
+	// Set up auto-refresh for a div
+	function setupAutoRefresh(div) {
+		const interval = parseInt(div.dataset.refreshInterval) * 1000; // Convert to milliseconds
+		const url = div.dataset.source || div.dataset.refreshUrl;
 
-				if (url && div.id && interval > 0) {
-					BoxLangAjax.components.div.autoRefresh(div.id, interval);
+		if (url && div.id && interval > 0) {
+			BoxLangAjax.components.div.autoRefresh(div.id, interval);
+		}
+	}
+
+	// Set up a manual refresh button
+	function setupRefreshButton(button) {
+		button.addEventListener("click", function () {
+			const targetId = button.dataset.refreshTarget;
+			const params = {};
+
+			// Collect parameters from data attributes
+			Object.keys(button.dataset).forEach(function (key) {
+				if (key.startsWith("param")) {
+					const paramName = key.substring(5).toLowerCase();
+					params[paramName] = button.dataset[key];
 				}
 			});
+
+			BoxLangAjax.components.div
+				.refresh(targetId, params)
+				.catch(function (error) {
+					console.error("Manual refresh failed:", error);
+				});
+		});
 	}
 
-	// Initialize div AJAX enhancements
-	function initDivAjax() {
-		enhanceDivEvents();
-		autoLoadDivContent();
-		setupAutoRefresh();
-
-		// Set up manual refresh buttons
-		document
-			.querySelectorAll("[data-refresh-target]")
-			.forEach(function (button) {
-				button.addEventListener("click", function () {
-					const targetId = button.dataset.refreshTarget;
-					const params = {};
-
-					// Collect parameters from data attributes
-					Object.keys(button.dataset).forEach(function (key) {
-						if (key.startsWith("param")) {
-							const paramName = key.substring(5).toLowerCase();
-							params[paramName] = button.dataset[key];
+	// Set up a load more button
+	function setupLoadMoreButton(button) {
+		button.addEventListener("click", function () {
+			const targetId = button.dataset.loadMoreTarget;
+			const url = button.dataset.loadMoreUrl;
+
+			if (targetId && url) {
+				BoxLangAjax.components.div
+					.appendContent(targetId, url)
+					.then(function () {
+						// Optionally hide or update the button
+						if (button.dataset.hideAfterLoad === "true") {
+							button.style.display = "none";
 						}
+					})
+					.catch(function (error) {
+						console.error("Load more failed:", error);
 					});
+			}
+		});
+	}
 
-					BoxLangAjax.components.div
-						.refresh(targetId, params)
-						.catch(function (error) {
-							console.error("Manual refresh failed:", error);
-						});
-				});
-			});
+	// Divs and buttons in the page and in content added later are wired up once each
+	BoxLangAjax.utils.registerInitializer(
+		".bx-div[data-source]",
+		autoLoadDivContent
+	);
+	BoxLangAjax.utils.registerInitializer(
+		".bx-div[data-refresh-interval]",
+		setupAutoRefresh
+	);
+	BoxLangAjax.utils.registerInitializer(
+		"[data-refresh-target]",
+		setupRefreshButton
+	);
+	BoxLangAjax.utils.registerInitializer(
+		"[data-load-more-target]",
+		setupLoadMoreButton
+	);
 
-		// Set up load more buttons
-		document
-			.querySelectorAll("[data-load-more-target]")
-			.forEach(function (button) {
-				button.addEventListener("click", function () {
-					const targetId = button.dataset.loadMoreTarget;
-					const url = button.dataset.loadMoreUrl;
-
-					if (targetId && url) {
-						BoxLangAjax.components.div
-							.appendContent(targetId, url)
-							.then(function () {
-								// Optionally hide or update the button
-								if (button.dataset.hideAfterLoad === "true") {
-									button.style.display = "none";
-								}
-							})
-							.catch(function (error) {
-								console.error("Load more failed:", error);
-							});
-					}
-				});
-			});
+	// Initialize div AJAX enhancements
+	function initDivAjax() {
+		enhanceDivEvents();
 
 		console.log("BoxLang Div AJAX enhancements initialized");
 	}
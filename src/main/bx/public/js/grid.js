@@ -46,11 +46,14 @@
 			const fullUrl =
 				url + (url.includes("?") ? "&" : "?") + params.toString();
 
-			// Show loading skeleton
-			this.showLoadingSkeleton(gridId);
+			// Show loading skeleton, morphing grids keep their rows until the new page arrives
+			const morph = BoxLangAjax.utils.shouldMorph(grid);
+			if (!morph || !grid.querySelector("tbody tr")) {
+				this.showLoadingSkeleton(gridId);
+			}
 
 			return BoxLangAjax.utils
-				.fetchContent(fullUrl)
+				.fetchContent(fullUrl, { container: grid })
 				.then(function (data) {
 					// Assume data is JSON with { data: rows[], totalRows: number }
 					if (typeof data === "string") {
@@ -58,7 +61,11 @@
 							data = JSON.parse(data);
 						} catch (e) {
 							// If not JSON, treat as HTML and replace grid content
-							grid.innerHTML = data;
+							if (morph) {
+								BoxLangAjax.utils.morph(grid, data);
+							} else {
+								grid.innerHTML = data;
+							}
 							return data;
 						}
 					}
@@ -84,12 +91,21 @@
 
 			if (!tbody) return;
 
-			// Clear existing rows
-			tbody.innerHTML = "";
+			// Build the new rows off-document, morphing grids then only patch the cells that changed
+			const rows = document.createElement("tbody");
+			const morph = BoxLangAjax.utils.shouldMorph(grid);
+			const swapRows = function () {
+				if (morph) {
+					BoxLangAjax.utils.morph(tbody, rows);
+				} else {
+					tbody.replaceChildren(...rows.childNodes);
+				}
+			};
 
 			if (!data.data || data.data.length === 0) {
-				tbody.innerHTML =
+				rows.innerHTML =
 					'<tr><td colspan="100%" class="bx-grid-empty">No data available</td></tr>';
+				swapRows();
 				return;
 			}
 
@@ -109,9 +125,11 @@
 					tr.appendChild(td);
 				});
 
-				tbody.appendChild(tr);
+				rows.appendChild(tr);
 			});
 
+			swapRows();
+
 			// Update pagination if present
 			if (pagination && data.totalRows !== undefined) {
 				this.updatePagination(gridId, data);
@@ -340,6 +358,350 @@
 		},
 	};
 
+	// Sort the column of a bx:grid, calling its data-on-sort handler or sorting the rows in place
+	function sortColumn(grid, column) {
+		const header = Array.from(
+			grid.querySelectorAll(".bx-grid-column-header")
+		).find(function (candidate) {
+			return candidate.dataset.column === column;
+		});
+		if (!header) return;
+
+		const currentSort = header.classList.contains("bx-grid-sort-asc")
+			? "asc"
+			: header.classList.contains("bx-grid-sort-desc")
+			? "desc"
+			: "none";
+		const newSort = currentSort === "asc" ? "desc" : "asc";
+
+		// Remove all sort classes
+		grid.querySelectorAll(".bx-grid-column-header").forEach(function (h) {
+			h.classList.remove(
+				"bx-grid-sorted",
+				"bx-grid-sort-asc",
+				"bx-grid-sort-desc"
+			);
+		});
+
+		// Add new sort class
+		header.classList.add("bx-grid-sorted", "bx-grid-sort-" + newSort);
+
+		const handler = BoxLangAjax.utils.resolveHandler(grid.dataset.onSort);
+		if (handler) {
+			handler(column, newSort);
+		} else {
+			sortRows(grid, column, newSort);
+		}
+
+		grid.dispatchEvent(
+			new CustomEvent("gridSort", {
+				detail: { column: column, direction: newSort },
+			})
+		);
+	}
+
+	// Sort the rows of a bx:grid by the text (or number) in a column
+	function sortRows(grid, column, direction) {
+		const tbody = grid.querySelector(".bx-grid-body");
+		if (!tbody) return;
+		const rows = Array.from(tbody.querySelectorAll(".bx-grid-row"));
+
+		// Find column index
+		const headers = grid.querySelectorAll(".bx-grid-column-header");
+		const selectColumnOffset = grid.dataset.selectMode !== "none" ? 1 : 0;
+		let columnIndex = -1;
+
+		for (let i = 0; i < headers.length; i++) {
+			if (headers[i].dataset.column === column) {
+				columnIndex = i + selectColumnOffset;
+				break;
+			}
+		}
+
+		if (columnIndex === -1) return;
+
+		rows.sort(function (a, b) {
+			const aCell = a.cells[columnIndex];
+			const bCell = b.cells[columnIndex];
+
+			if (!aCell || !bCell) return 0;
+
+			const aValue = aCell.textContent.trim();
+			const bValue = bCell.textContent.trim();
+
+			// Try numeric comparison first
+			const aNum = parseFloat(aValue);
+			const bNum = parseFloat(bValue);
+
+			const result =
+				!isNaN(aNum) && !isNaN(bNum)
+					? aNum - bNum
+					: aValue.toLowerCase().localeCompare(bValue.toLowerCase());
+
+			return direction === "desc" ? -result : result;
+		});
+
+		// Re-append sorted rows to tbody
+		rows.forEach(function (row) {
+			tbody.appendChild(row);
+		});
+	}
+
+	// Wire up a bx:grid from its data attributes
+	function initGrid(grid) {
+		grid.addEventListener("click", function (event) {
+			const target = event.target;
+
+			// Handle column sorting
+			const header = target.closest(".bx-grid-column-header");
+			if (header && grid.dataset.sortable === "true") {
+				sortColumn(grid, header.dataset.column);
+			}
+
+			// Handle pagination
+			if (target.classList.contains("bx-grid-page-btn")) {
+				grid.dispatchEvent(
+					new CustomEvent("gridPageChange", {
+						detail: { page: parseInt(target.dataset.page) },
+					})
+				);
+			}
+
+			// Handle select all
+			if (target.classList.contains("bx-grid-select-all")) {
+				const name = grid.dataset.name + "_select";
+				grid.querySelectorAll("input").forEach(function (checkbox) {
+					if (checkbox.name === name) {
+						checkbox.checked = target.checked;
+					}
+				});
+			}
+		});
+
+		// Handle cell editing
+		if (grid.dataset.editable === "true") {
+			grid.addEventListener(
+				"blur",
+				function (event) {
+					const cell = event.target;
+					if (!cell.classList.contains("bx-grid-editable-cell")) {
+						return;
+					}
+					const column = cell.dataset.column;
+					const row = cell.closest(".bx-grid-row").dataset.row;
+					const value = cell.textContent;
+
+					const handler = BoxLangAjax.utils.resolveHandler(
+						grid.dataset.onEdit
+					);
+					if (handler) {
+						handler(column, row, value);
+					}
+
+					grid.dispatchEvent(
+						new CustomEvent("gridCellEdit", {
+							detail: { column: column, row: row, value: value },
+						})
+					);
+				},
+				true
+			);
+		}
+
+		// Fire load event
+		const onLoad = BoxLangAjax.utils.resolveHandler(grid.dataset.onLoad);
+		if (onLoad) {
+			setTimeout(onLoad, 0);
+		}
+	}
+
+	BoxLangAjax.utils.registerInitializer(".bx-grid[data-name]", initGrid);
+
+	// Wire up a bx:gridupdate form: track the changes of its grid and expose
+	// window["updateGrid_<grid name>"]() to send them to the database endpoint or URL
+	function initGridUpdate(form) {
+		const gridName = form.dataset.grid;
+		const grid =
+			document.getElementById(gridName) ||
+			document.querySelector(
+				'.bx-grid[data-name="' + CSS.escape(gridName) + '"]'
+			);
+
+		if (!grid) {
+			console.error("Grid not found: " + gridName);
+			return;
+		}
+
+		// Track modified cells
+		const modifiedCells = new Map();
+		const deletedRows = new Set();
+		let newRows = [];
+
+		const getRowId = function (element) {
+			const row = element.closest(".bx-grid-row");
+			return row
+				? row.id ||
+						row.dataset.row ||
+						"row_" + Array.from(row.parentNode.children).indexOf(row)
+				: null;
+		};
+
+		grid.addEventListener("gridCellEdit", function (event) {
+			const rowId = getRowId(event.target);
+			if (!modifiedCells.has(rowId)) {
+				modifiedCells.set(rowId, {});
+			}
+			modifiedCells.get(rowId)[event.detail.column] = event.detail.value;
+		});
+
+		grid.addEventListener("gridRowDelete", function (event) {
+			deletedRows.add(getRowId(event.target));
+		});
+
+		grid.addEventListener("gridRowAdd", function (event) {
+			newRows.push(event.detail.rowData);
+		});
+
+		const succeeded = function (result, message) {
+			// Clear tracking data
+			modifiedCells.clear();
+			deletedRows.clear();
+			newRows = [];
+
+			const handler = BoxLangAjax.utils.resolveHandler(
+				form.dataset.onSuccess
+			);
+			if (handler) {
+				handler(message);
+			} else {
+				console.log("Update successful:", message);
+			}
+
+			grid.dispatchEvent(
+				new CustomEvent("gridUpdateSuccess", { detail: result })
+			);
+		};
+
+		const failed = function (error) {
+			const handler = BoxLangAjax.utils.resolveHandler(
+				form.dataset.onError
+			);
+			if (handler) {
+				handler(error.message);
+			} else {
+				console.error("Update failed:", error.message);
+			}
+
+			grid.dispatchEvent(
+				new CustomEvent("gridUpdateError", { detail: { error: error } })
+			);
+		};
+
+		const checkStatus = function (response) {
+			if (!response.ok) {
+				throw new Error(
+					"HTTP " + response.status + ": " + response.statusText
+				);
+			}
+			return response;
+		};
+
+		// Send the changes to the BoxLang backend for database processing
+		const updateDatabase = function (updateData) {
+			const payload = {
+				dataSource: form.dataset.datasource,
+				tableName: form.dataset.tableName,
+				tableOwner: form.dataset.tableOwner || "",
+				tableQualifier: form.dataset.tableQualifier || "",
+				keyOnly: form.dataset.keyOnly === "true",
+				updates: updateData,
+			};
+			if (form.dataset.username) {
+				payload.username = form.dataset.username;
+			}
+			if (form.dataset.password) {
+				payload.password = form.dataset.password;
+			}
+
+			return fetch("/bx-ui-compat/gridupdate", {
+				method: "POST",
+				headers: {
+					"Content-Type": "application/json",
+					"X-Requested-With": "XMLHttpRequest",
+				},
+				body: JSON.stringify(payload),
+			})
+				.then(checkStatus)
+				.then(function (response) {
+					return response.json();
+				})
+				.then(function (result) {
+					if (!result.success) {
+						throw new Error(
+							result.message || "Unknown database error"
+						);
+					}
+					succeeded(result, "Database updated successfully");
+				})
+				.catch(failed);
+		};
+
+		// Post the changes as form data to the update URL
+		const updateViaURL = function (updateData) {
+			form.querySelector('[name="gridData"]').value =
+				JSON.stringify(updateData);
+
+			return fetch(form.dataset.url, {
+				method: form.dataset.method || "POST",
+				headers: { "X-Requested-With": "XMLHttpRequest" },
+				body: new FormData(form),
+			})
+				.then(checkStatus)
+				.then(function (response) {
+					// Try to parse as JSON, fall back to text
+					const contentType = response.headers.get("content-type");
+					if (contentType && contentType.includes("application/json")) {
+						return response.json();
+					}
+					return response.text().then(function (text) {
+						return { success: true, message: text };
+					});
+				})
+				.then(function (result) {
+					succeeded(
+						result,
+						result.message || "Update completed successfully"
+					);
+				})
+				.catch(failed);
+		};
+
+		// Public update function
+		window["updateGrid_" + gridName] = function () {
+			const updateData = {
+				grid: gridName,
+				modified: Object.fromEntries(modifiedCells),
+				deleted: Array.from(deletedRows),
+				added: newRows,
+				timestamp: new Date().toISOString(),
+			};
+
+			const updates = [];
+			if (form.dataset.datasource) {
+				updates.push(updateDatabase(updateData));
+			}
+			if (form.dataset.url) {
+				updates.push(updateViaURL(updateData));
+			}
+			return Promise.all(updates);
+		};
+	}
+
+	BoxLangAjax.utils.registerInitializer(
+		"form.bx-grid-update[data-grid]",
+		initGridUpdate
+	);
+
 	// Enhanced grid event handling for AJAX
 	function enhanceGridEvents() {
 		// Set up sorting
@@ -373,23 +735,24 @@
 	}
 
 	// Auto-load grid data
-	function autoLoadGridData() {
-		document
-			.querySelectorAll(".bx-grid[data-source]")
-			.forEach(function (grid) {
-				if (grid.id) {
-					const delay = parseInt(grid.dataset.loadDelay) || 0;
-					setTimeout(function () {
-						BoxLangAjax.components.grid.loadData(grid.id);
-					}, delay);
-				}
-			});
+	function autoLoadGridData(grid) {
+		if (grid.id) {
+			const delay = parseInt(grid.dataset.loadDelay) || 0;
+			setTimeout(function () {
+				BoxLangAjax.components.grid.loadData(grid.id);
+			}, delay);
+		}
 	}
 
+	// Grids in the page and in content added later are loaded once each
+	BoxLangAjax.utils.registerInitializer(
+		".bx-grid[data-source]",
+		autoLoadGridData
+	);
+
 	// Initialize grid AJAX enhancements
 	function initGridAjax() {
 		enhanceGridEvents();
-		autoLoadGridData();
 
 		console.log("BoxLang Grid AJAX enhancements initialized");
 	}
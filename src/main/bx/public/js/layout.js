@@ -66,10 +66,11 @@
             const promises = [];
             const areasWithSources = layout.querySelectorAll('[data-source]');
             
+            // All areas are rendered by the server in a single batch request
             areasWithSources.forEach(function(area) {
                 const url = area.dataset.source;
                 if (url && area.id) {
-                    promises.push(BoxLangAjax.utils.loadIntoContainer(area.id, url));
+                    promises.push(BoxLangAjax.utils.loadIntoContainer(area.id, url, { batch: true }));
                 }
             });
             
@@ -102,9 +103,9 @@
             headers[tabIndex].classList.add('active');
             panels[tabIndex].classList.add('active');
             
-            // Load content if URL provided
+            // Load content if URL provided, revisited tabs show their last content while it revalidates
             if (url && panels[tabIndex].id) {
-                return BoxLangAjax.utils.loadIntoContainer(panels[tabIndex].id, url);
+                return BoxLangAjax.utils.loadIntoContainer(panels[tabIndex].id, url, { swr: true });
             }
             
             return Promise.resolve();
@@ -135,94 +136,92 @@
             
             // Load content if URL provided and panel is being expanded
             if (url && !panel.classList.contains('collapsed') && content && content.id) {
-                return BoxLangAjax.utils.loadIntoContainer(content.id, url);
+                return BoxLangAjax.utils.loadIntoContainer(content.id, url, { swr: true });
             }
             
             return Promise.resolve();
         }
     };
     
-    // Enhanced layout event handling for AJAX
-    function enhanceLayoutEvents() {
-        // Tab layout AJAX enhancement
-        document.querySelectorAll('.bx-layout-tab').forEach(function(layout) {
-            layout.addEventListener('click', function(event) {
-                if (event.target.classList.contains('bx-tab-header')) {
-                    const ajaxUrl = event.target.dataset.ajaxUrl;
-                    const tabId = event.target.getAttribute('data-tab');
+    // Tab layout AJAX enhancement
+    function enhanceTabLayout(layout) {
+        layout.addEventListener('click', function(event) {
+            if (event.target.classList.contains('bx-tab-header')) {
+                const ajaxUrl = event.target.dataset.ajaxUrl;
+                const tabId = event.target.getAttribute('data-tab');
+                
+                if (ajaxUrl && tabId) {
+                    event.preventDefault();
                     
-                    if (ajaxUrl && tabId) {
-                        event.preventDefault();
-                        
-                        // Find tab index
-                        const headers = Array.from(layout.querySelectorAll('.bx-tab-header'));
-                        const tabIndex = headers.indexOf(event.target);
-                        
-                        BoxLangAjax.components.layout.switchTab(layout.id, tabIndex, ajaxUrl)
-                            .catch(function(error) {
-                                console.error('Failed to load tab content:', error);
-                            });
-                    }
-                }
-            });
-        });
-        
-        // Accordion layout AJAX enhancement
-        document.querySelectorAll('.bx-layout-accordion').forEach(function(layout) {
-            layout.addEventListener('click', function(event) {
-                if (event.target.classList.contains('bx-accordion-header')) {
-                    const panel = event.target.parentNode;
-                    const ajaxUrl = panel.dataset.ajaxUrl;
+                    // Find tab index
+                    const headers = Array.from(layout.querySelectorAll('.bx-tab-header'));
+                    const tabIndex = headers.indexOf(event.target);
                     
-                    if (ajaxUrl) {
-                        event.preventDefault();
-                        
-                        // Find panel index
-                        const panels = Array.from(layout.querySelectorAll('.bx-accordion-panel'));
-                        const panelIndex = panels.indexOf(panel);
-                        
-                        BoxLangAjax.components.layout.toggleAccordion(layout.id, panelIndex, ajaxUrl)
-                            .catch(function(error) {
-                                console.error('Failed to load accordion content:', error);
-                            });
-                    }
+                    BoxLangAjax.components.layout.switchTab(layout.id, tabIndex, ajaxUrl)
+                        .catch(function(error) {
+                            console.error('Failed to load tab content:', error);
+                        });
                 }
-            });
+            }
         });
     }
     
-    // Auto-load content for layout areas with data-source
-    function autoLoadLayoutContent() {
-        document.querySelectorAll('.bx-layout [data-source]').forEach(function(area) {
-            const url = area.dataset.source;
-            const delay = parseInt(area.dataset.loadDelay) || 0;
-            
-            if (url && area.id) {
-                setTimeout(function() {
-                    BoxLangAjax.utils.loadIntoContainer(area.id, url)
+    // Accordion layout AJAX enhancement
+    function enhanceAccordionLayout(layout) {
+        layout.addEventListener('click', function(event) {
+            if (event.target.classList.contains('bx-accordion-header')) {
+                const panel = event.target.parentNode;
+                const ajaxUrl = panel.dataset.ajaxUrl;
+                
+                if (ajaxUrl) {
+                    event.preventDefault();
+                    
+                    // Find panel index
+                    const panels = Array.from(layout.querySelectorAll('.bx-accordion-panel'));
+                    const panelIndex = panels.indexOf(panel);
+                    
+                    BoxLangAjax.components.layout.toggleAccordion(layout.id, panelIndex, ajaxUrl)
                         .catch(function(error) {
-                            console.error('Failed to auto-load layout content:', error);
+                            console.error('Failed to load accordion content:', error);
                         });
-                }, delay);
+                }
             }
         });
     }
     
-    // Initialize layout AJAX enhancements
-    function initLayoutAjax() {
-        enhanceLayoutEvents();
-        autoLoadLayoutContent();
+    // Auto-load content for a layout area with data-source
+    function autoLoadLayoutContent(area) {
+        const url = area.dataset.source;
+        const delay = parseInt(area.dataset.loadDelay) || 0;
         
-        // Set up refresh buttons for layouts
-        document.querySelectorAll('.bx-layout [data-refresh-button]').forEach(function(button) {
-            button.addEventListener('click', function() {
-                const layoutId = button.closest('.bx-layout').id;
-                if (layoutId) {
-                    BoxLangAjax.components.layout.refreshAll(layoutId);
-                }
-            });
+        if (url && area.id) {
+            setTimeout(function() {
+                BoxLangAjax.utils.loadIntoContainer(area.id, url)
+                    .catch(function(error) {
+                        console.error('Failed to auto-load layout content:', error);
+                    });
+            }, delay);
+        }
+    }
+    
+    // Set up a refresh button for a layout
+    function setupRefreshButton(button) {
+        button.addEventListener('click', function() {
+            const layoutId = button.closest('.bx-layout').id;
+            if (layoutId) {
+                BoxLangAjax.components.layout.refreshAll(layoutId);
+            }
         });
-        
+    }
+    
+    // Layouts in the page and in content added later are wired up once each
+    BoxLangAjax.utils.registerInitializer('.bx-layout-tab', enhanceTabLayout);
+    BoxLangAjax.utils.registerInitializer('.bx-layout-accordion', enhanceAccordionLayout);
+    BoxLangAjax.utils.registerInitializer('.bx-layout [data-source]', autoLoadLayoutContent);
+    BoxLangAjax.utils.registerInitializer('.bx-layout [data-refresh-button]', setupRefreshButton);
+    
+    // Initialize layout AJAX enhancements
+    function initLayoutAjax() {
         console.log('BoxLang Layout AJAX enhancements initialized');
     }
     
@@ -15,9 +15,10 @@
 	// Pod-specific AJAX utilities
 	BoxLangAjax.components.pod = {
 		/**
-		 * Refresh pod content
+		 * Refresh pod content. Supported options: priority (see BoxLangAjax.requestQueue) and
+		 * conditional, to leave the content alone when the server reports it unchanged
 		 */
-		refresh: function (podId, showOverlay = true) {
+		refresh: function (podId, showOverlay = true, options = {}) {
 			const pod = document.getElementById(podId);
 			if (!pod) {
 				console.error("Pod not found: " + podId);
@@ -49,18 +50,32 @@
 			}
 
 			return BoxLangAjax.utils
-				.fetchContent(url)
+				.fetchContent(url, {
+					container: content,
+					priority: options.priority || "visible",
+					etag: options.conditional === true,
+					conditional:
+						options.conditional === true &&
+						BoxLangAjax.loadedUrls.get(content) === url,
+				})
 				.then(function (data) {
-					content.innerHTML = data;
-					content.classList.add("bx-source-loaded");
-
 					if (overlay) {
 						pod.removeChild(overlay);
 						pod.classList.remove("bx-refreshing");
 					}
 
+					if (data === BoxLangAjax.NOT_MODIFIED) {
+						return data;
+					}
+
+					const endSwap = BoxLangAjax.metrics.start("swap");
+					content.innerHTML = data;
+					content.classList.add("bx-source-loaded");
+					BoxLangAjax.loadedUrls.set(content, url);
+
 					// Execute scripts in loaded content
 					BoxLangAjax.utils.executeScripts(content);
+					BoxLangAjax.metrics.record("pod", url, { swap: endSwap() });
 
 					// Trigger refresh event
 					const event = new CustomEvent("pod-refreshed", {
@@ -145,30 +160,32 @@
 
 			// Don't refresh if pod is collapsed
 			const refreshFn = function () {
-				if (
-					!pod.classList.contains("bx-collapsed") &&
-					document.contains(pod)
-				) {
+				if (!pod.classList.contains("bx-collapsed")) {
 					BoxLangAjax.components.pod
-						.refresh(podId, false) // No overlay for auto-refresh
+						.refresh(podId, false, {
+							priority: "background",
+							conditional: true,
+						}) // No overlay for auto-refresh
 						.catch(function (error) {
 							console.error("Pod auto-refresh failed:", error);
 						});
-				} else if (!document.contains(pod)) {
-					// Pod removed from DOM, stop refreshing
-					BoxLangAjax.components.pod.stopAutoRefresh(podId);
 				}
 			};
 
-			const refreshInterval = setInterval(refreshFn, interval);
+			// The shared scheduler pauses while the pod is off-screen and stops once it leaves the DOM
+			const refreshId = BoxLangAjax.refreshScheduler.register(
+				pod,
+				interval,
+				refreshFn
+			);
 
-			// Store interval ID for cleanup
+			// Store refresh ID for cleanup
 			if (!pod.dataset.refreshIntervals) {
 				pod.dataset.refreshIntervals = "";
 			}
-			pod.dataset.refreshIntervals += refreshInterval + ",";
+			pod.dataset.refreshIntervals += refreshId + ",";
 
-			return refreshInterval;
+			return refreshId;
 		},
 
 		/**
@@ -178,15 +195,7 @@
 			const pod = document.getElementById(podId);
 			if (!pod) return;
 
-			const intervals = pod.dataset.refreshIntervals;
-			if (intervals) {
-				intervals.split(",").forEach(function (intervalId) {
-					if (intervalId) {
-						clearInterval(parseInt(intervalId));
-					}
-				});
-				delete pod.dataset.refreshIntervals;
-			}
+			BoxLangAjax.utils.stopAutoRefresh(pod);
 		},
 
 		/**
@@ -313,69 +322,104 @@
 		});
 	}
 
-	// Auto-load content for pods with data-source
-	function autoLoadPodContent() {
-		document
-			.querySelectorAll(".bx-pod[data-source]")
-			.forEach(function (pod) {
-				const url = pod.dataset.source;
-				const delay = parseInt(pod.dataset.loadDelay) || 0;
-
-				if (url && pod.id) {
-					setTimeout(function () {
-						BoxLangAjax.components.pod
-							.refresh(pod.id, false) // No overlay for initial load
-							.catch(function (error) {
-								console.error(
-									"Failed to auto-load pod content:",
-									error
-								);
-							});
-					}, delay);
+	// Auto-load content for a pod with data-source
+	function autoLoadPodContent(pod) {
+		const url = pod.dataset.source;
+		const delay = parseInt(pod.dataset.loadDelay) || 0;
+
+		if (url && pod.id) {
+			setTimeout(function () {
+				BoxLangAjax.components.pod
+					.refresh(pod.id, false) // No overlay for initial load
+					.catch(function (error) {
+						console.error("Failed to auto-load pod content:", error);
+					});
+			}, delay);
+		}
+	}
+
+	// Load the source of a pod body placeholder (bx:pod source="...")
+	function initPodSource(element) {
+		const pod = element.closest(".bx-pod");
+		const url = element.dataset.source;
+
+		BoxLangAjax.utils
+			.fetchContent(url, { container: element, component: "pod" })
+			.then(function (content) {
+				element.innerHTML = content;
+				element.classList.remove("bx-source-loading");
+				element.classList.add("bx-source-loaded");
+				BoxLangAjax.utils.executeScripts(element);
+			})
+			.catch(function (error) {
+				console.warn("Failed to load content from " + url + ":", error);
+
+				const handler = BoxLangAjax.utils.resolveHandler(
+					pod && pod.dataset.onBindError
+				);
+				if (handler) {
+					handler(500, error.message);
+					return;
 				}
+
+				element.innerHTML =
+					'<div class="bx-source-error"><p></p><p></p></div>';
+				const lines = element.querySelectorAll("p");
+				lines[0].textContent = "Error loading content from: " + url;
+				lines[1].textContent = "Error: " + error.message;
+				element.classList.remove("bx-source-loading");
+				element.classList.add("bx-source-error");
 			});
 	}
 
-	// Set up auto-refresh for pods
-	function setupAutoRefresh() {
-		document
-			.querySelectorAll(".bx-pod[data-refresh-interval]")
-			.forEach(function (pod) {
-				const interval = parseInt(pod.dataset.refreshInterval) * 1000; // Convert to milliseconds
+	BoxLangAjax.utils.registerInitializer(
+		".bx-pod .bx-source-loading[data-source]",
+		initPodSource
+	);
 
-				if (pod.id && interval > 0) {
-					BoxLangAjax.components.pod.autoRefresh(pod.id, interval);
-				}
-			});
+	// Set up auto-refresh for a pod
+	function setupAutoRefresh(pod) {
+		const interval = parseInt(pod.dataset.refreshInterval) * 1000; // Convert to milliseconds
+
+		if (pod.id && interval > 0) {
+			BoxLangAjax.components.pod.autoRefresh(pod.id, interval);
+		}
 	}
 
-	// Set up keyboard accessibility
-	function setupPodAccessibility() {
-		document
-			.querySelectorAll(".bx-pod.bx-collapsible .bx-pod-header")
-			.forEach(function (header) {
-				if (!header.hasAttribute("tabindex")) {
-					header.setAttribute("tabindex", "0");
-				}
+	// Set up keyboard accessibility for a collapsible pod header
+	function setupPodAccessibility(header) {
+		if (!header.hasAttribute("tabindex")) {
+			header.setAttribute("tabindex", "0");
+		}
 
-				header.addEventListener("keydown", function (event) {
-					if (event.key === "Enter" || event.key === " ") {
-						event.preventDefault();
-						const pod = header.closest(".bx-pod");
-						if (pod && pod.id) {
-							BoxLangAjax.components.pod.toggle(pod.id);
-						}
-					}
-				});
-			});
+		header.addEventListener("keydown", function (event) {
+			if (event.key === "Enter" || event.key === " ") {
+				event.preventDefault();
+				const pod = header.closest(".bx-pod");
+				if (pod && pod.id) {
+					BoxLangAjax.components.pod.toggle(pod.id);
+				}
+			}
+		});
 	}
 
+	// Pods in the page and in content added later are wired up once each
+	BoxLangAjax.utils.registerInitializer(
+		".bx-pod[data-source]",
+		autoLoadPodContent
+	);
+	BoxLangAjax.utils.registerInitializer(
+		".bx-pod[data-refresh-interval]",
+		setupAutoRefresh
+	);
+	BoxLangAjax.utils.registerInitializer(
+		".bx-pod.bx-collapsible .bx-pod-header",
+		setupPodAccessibility
+	);
+
 	// Initialize pod AJAX enhancements
 	function initPodAjax() {
 		enhancePodEvents();
-		autoLoadPodContent();
-		setupAutoRefresh();
-		setupPodAccessibility();
 
 		console.log("BoxLang Pod AJAX enhancements initialized");
 	}
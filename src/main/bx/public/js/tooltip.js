@@ -17,7 +17,7 @@
 		/**
 		 * Load content for a tooltip
 		 */
-		loadContent: function (tooltipId, url) {
+		loadContent: function (tooltipId, url, options = {}) {
 			const tooltip = document.getElementById(tooltipId);
 			if (!tooltip) {
 				console.error("Tooltip not found: " + tooltipId);
@@ -31,7 +31,11 @@
 			tooltip.classList.add("bx-ajax-loading");
 
 			return BoxLangAjax.utils
-				.fetchContent(url, { timeout: 10000 }) // Shorter timeout for tooltips
+				.fetchContent(url, {
+					timeout: 10000, // Shorter timeout for tooltips
+					container: tooltip,
+					priority: options.priority || "visible",
+				})
 				.then(function (content) {
 					tooltip.innerHTML = content;
 					tooltip.classList.remove("bx-ajax-loading");
@@ -240,7 +244,7 @@
 		/**
 		 * Refresh tooltip content
 		 */
-		refresh: function (tooltipId) {
+		refresh: function (tooltipId, options = {}) {
 			const tooltip = document.getElementById(tooltipId);
 			if (!tooltip) return;
 
@@ -250,99 +254,277 @@
 				return Promise.reject(new Error("No refresh URL found"));
 			}
 
-			return this.loadContent(tooltipId, url);
+			return this.loadContent(tooltipId, url, options);
 		},
 	};
 
-	// Auto-setup tooltips with AJAX functionality
-	function setupAjaxTooltips() {
-		// Setup hover tooltips
-		document
-			.querySelectorAll("[data-tooltip-hover][data-tooltip-source]")
-			.forEach(function (trigger) {
-				const tooltipId = trigger.dataset.tooltipHover;
-				const url = trigger.dataset.tooltipSource;
-				const showDelay =
-					parseInt(trigger.dataset.tooltipShowDelay) || 500;
-				const hideDelay =
-					parseInt(trigger.dataset.tooltipHideDelay) || 300;
+	// Hide functions of the bx:tooltip tooltips currently shown, see initTooltipTrigger
+	const shownTooltips = new Set();
 
-				if (tooltipId && url && trigger.id) {
-					BoxLangAjax.components.tooltip.setupHover(
-						trigger.id,
-						tooltipId,
-						url,
-						{
-							showDelay: showDelay,
-							hideDelay: hideDelay,
-						}
-					);
+	// One listener for all tooltips: scrolling or resizing hides the ones shown
+	function hideShownTooltips() {
+		shownTooltips.forEach(function (hide) {
+			hide();
+		});
+	}
+	window.addEventListener("scroll", hideShownTooltips, { passive: true });
+	window.addEventListener("resize", hideShownTooltips);
+
+	// Wire up a bx:tooltip trigger, its container is the #<id>_tooltip element next to it
+	function initTooltipTrigger(trigger) {
+		const tooltip = document.getElementById(trigger.id + "_tooltip");
+		if (!tooltip) {
+			return;
+		}
+
+		let showTimer = null;
+		let hideTimer = null;
+		let autoDismissTimer = null;
+		let visible = false;
+
+		const position = function () {
+			const rect = trigger.getBoundingClientRect();
+			const tooltipRect = tooltip.getBoundingClientRect();
+			const preventOverlap = trigger.dataset.preventOverlap === "true";
+
+			let left = rect.left + rect.width / 2 - tooltipRect.width / 2;
+			let top = rect.top - tooltipRect.height - 5; // Default: above the trigger
+
+			// Check for viewport boundaries
+			if (left < 5) left = 5;
+			if (left + tooltipRect.width > window.innerWidth - 5) {
+				left = window.innerWidth - tooltipRect.width - 5;
+			}
+
+			// Show below when there is no room above
+			if (top < 5) {
+				top = rect.bottom + 5;
+			}
+
+			// Showing below would overlap the trigger, try above again if there is space
+			if (preventOverlap && top > rect.top && top < rect.bottom + 10) {
+				const topAbove = rect.top - tooltipRect.height - 5;
+				if (topAbove >= 5) {
+					top = topAbove;
 				}
-			});
+			}
 
-		// Setup click tooltips
-		document
-			.querySelectorAll("[data-tooltip-click][data-tooltip-source]")
-			.forEach(function (trigger) {
-				const tooltipId = trigger.dataset.tooltipClick;
-				const url = trigger.dataset.tooltipSource;
+			// Ensure tooltip stays within viewport vertically
+			if (top + tooltipRect.height > window.innerHeight - 5) {
+				top = window.innerHeight - tooltipRect.height - 5;
+			}
 
-				if (tooltipId && url && trigger.id) {
-					BoxLangAjax.components.tooltip.setupClick(
-						trigger.id,
-						tooltipId,
-						url
-					);
+			tooltip.style.left = left + window.pageXOffset + "px";
+			tooltip.style.top = top + window.pageYOffset + "px";
+		};
+
+		// Render the tooltip invisibly first so it can be measured and positioned
+		const display = function (html) {
+			tooltip.innerHTML = html;
+			tooltip.style.visibility = "hidden";
+			tooltip.style.display = "block";
+			position();
+			tooltip.style.visibility = "visible";
+		};
+
+		const hide = function () {
+			clearTimeout(showTimer);
+			clearTimeout(autoDismissTimer);
+			showTimer = null;
+
+			if (!visible) return;
+
+			const hideDelay = parseInt(trigger.dataset.hideDelay) || 300;
+			hideTimer = setTimeout(function () {
+				tooltip.style.display = "none";
+				tooltip.style.visibility = "visible"; // Reset for next show
+				visible = false;
+				shownTooltips.delete(hide);
+			}, hideDelay);
+		};
+
+		const show = function () {
+			clearTimeout(hideTimer);
+			clearTimeout(autoDismissTimer);
+
+			if (showTimer) return; // Already scheduled to show
+
+			showTimer = setTimeout(function () {
+				const sourceUrl = trigger.dataset.source;
+
+				if (sourceUrl) {
+					// Load dynamic content
+					display("Loading...");
+					BoxLangAjax.utils
+						.fetchContent(sourceUrl, {
+							timeout: 10000,
+							container: tooltip,
+							component: "tooltip",
+						})
+						.then(function (content) {
+							tooltip.innerHTML = content;
+							position();
+						})
+						.catch(function (error) {
+							console.warn(
+								"Failed to load tooltip content:",
+								error
+							);
+							tooltip.innerHTML = "Error loading content";
+							position();
+						});
+				} else {
+					display(trigger.dataset.tooltip || "");
 				}
-			});
 
-		// Setup auto-refresh tooltips
-		document
-			.querySelectorAll(".bx-tooltip[data-refresh-interval]")
-			.forEach(function (tooltip) {
-				const interval =
-					parseInt(tooltip.dataset.refreshInterval) * 1000;
-				const url =
-					tooltip.dataset.source || tooltip.dataset.refreshUrl;
-
-				if (url && tooltip.id && interval > 0) {
-					setInterval(function () {
-						if (tooltip.classList.contains("bx-tooltip-visible")) {
-							BoxLangAjax.components.tooltip
-								.refresh(tooltip.id)
-								.catch(function (error) {
-									console.error(
-										"Tooltip auto-refresh failed:",
-										error
-									);
-								});
-						}
-					}, interval);
+				visible = true;
+				showTimer = null;
+				shownTooltips.add(hide);
+
+				// Auto dismiss if configured
+				const autoDismissDelay =
+					parseInt(trigger.dataset.autoDismissDelay) || 0;
+				if (autoDismissDelay > 0) {
+					autoDismissTimer = setTimeout(hide, autoDismissDelay);
 				}
-			});
+			}, parseInt(trigger.dataset.showDelay) || 500);
+		};
+
+		trigger.addEventListener("mouseenter", show);
+		trigger.addEventListener("mouseleave", hide);
+		trigger.addEventListener("mousemove", function () {
+			if (visible) {
+				position();
+			}
+		});
+	}
+
+	BoxLangAjax.utils.registerInitializer(
+		".bx-tooltip-trigger[id]",
+		initTooltipTrigger
+	);
+
+	// Set up a hover tooltip with AJAX content
+	function setupHoverTooltip(trigger) {
+		const tooltipId = trigger.dataset.tooltipHover;
+		const url = trigger.dataset.tooltipSource;
+		const showDelay = parseInt(trigger.dataset.tooltipShowDelay) || 500;
+		const hideDelay = parseInt(trigger.dataset.tooltipHideDelay) || 300;
+
+		if (tooltipId && url && trigger.id) {
+			BoxLangAjax.components.tooltip.setupHover(
+				trigger.id,
+				tooltipId,
+				url,
+				{
+					showDelay: showDelay,
+					hideDelay: hideDelay,
+				}
+			);
+		}
+	}
+
+	// Set up a click tooltip with AJAX content
+	function setupClickTooltip(trigger) {
+		const tooltipId = trigger.dataset.tooltipClick;
+		const url = trigger.dataset.tooltipSource;
+
+		if (tooltipId && url && trigger.id) {
+			BoxLangAjax.components.tooltip.setupClick(
+				trigger.id,
+				tooltipId,
+				url
+			);
+		}
+	}
+
+	// Set up auto-refresh for a tooltip
+	function setupAutoRefresh(tooltip) {
+		const interval = parseInt(tooltip.dataset.refreshInterval) * 1000;
+		const url = tooltip.dataset.source || tooltip.dataset.refreshUrl;
+
+		if (url && tooltip.id && interval > 0) {
+			// Hidden tooltips are skipped by the shared scheduler and catch up when shown
+			BoxLangAjax.refreshScheduler.register(
+				tooltip,
+				interval,
+				function () {
+					if (tooltip.classList.contains("bx-tooltip-visible")) {
+						BoxLangAjax.components.tooltip
+							.refresh(tooltip.id, {
+								priority: "background",
+							})
+							.catch(function (error) {
+								console.error(
+									"Tooltip auto-refresh failed:",
+									error
+								);
+							});
+					}
+				}
+			);
+		}
+	}
+
+	// Convert tooltips to modal-style on small screens
+	function applyScreenSize(tooltip) {
+		if (window.innerWidth <= 768) {
+			tooltip.classList.add("bx-tooltip-mobile");
+		} else {
+			tooltip.classList.remove("bx-tooltip-mobile");
+		}
 	}
 
 	// Handle responsive behavior for tooltips
 	function handleResponsiveTooltips() {
-		// Convert tooltips to modal-style on small screens
-		function checkScreenSize() {
-			const isMobile = window.innerWidth <= 768;
-
-			document
-				.querySelectorAll(".bx-tooltip")
-				.forEach(function (tooltip) {
-					if (isMobile) {
-						tooltip.classList.add("bx-tooltip-mobile");
-					} else {
-						tooltip.classList.remove("bx-tooltip-mobile");
-					}
-				});
+		window.addEventListener("resize", function () {
+			document.querySelectorAll(".bx-tooltip").forEach(applyScreenSize);
+		});
+	}
+
+	// Focus management for keyboard navigation
+	function setupTriggerAccessibility(trigger) {
+		if (!trigger.hasAttribute("tabindex")) {
+			trigger.setAttribute("tabindex", "0");
 		}
 
-		checkScreenSize();
-		window.addEventListener("resize", checkScreenSize);
+		trigger.addEventListener("keydown", function (event) {
+			if (event.key === "Enter" || event.key === " ") {
+				event.preventDefault();
+				const tooltipId =
+					trigger.dataset.tooltipClick || trigger.dataset.tooltipHover;
+				const url = trigger.dataset.tooltipSource;
+
+				if (tooltipId && url && trigger.id) {
+					BoxLangAjax.components.tooltip.show(
+						trigger.id,
+						tooltipId,
+						url
+					);
+				}
+			}
+		});
 	}
 
+	// Tooltips in the page and in content added later are wired up once each
+	BoxLangAjax.utils.registerInitializer(
+		"[data-tooltip-hover][data-tooltip-source]",
+		setupHoverTooltip
+	);
+	BoxLangAjax.utils.registerInitializer(
+		"[data-tooltip-click][data-tooltip-source]",
+		setupClickTooltip
+	);
+	BoxLangAjax.utils.registerInitializer(
+		".bx-tooltip[data-refresh-interval]",
+		setupAutoRefresh
+	);
+	BoxLangAjax.utils.registerInitializer(".bx-tooltip", applyScreenSize);
+	BoxLangAjax.utils.registerInitializer(
+		"[data-tooltip-hover], [data-tooltip-click]",
+		setupTriggerAccessibility
+	);
+
 	// Handle keyboard accessibility
 	function setupTooltipAccessibility() {
 		document.addEventListener("keydown", function (event) {
@@ -357,38 +539,10 @@
 					});
 			}
 		});
-
-		// Focus management for keyboard navigation
-		document
-			.querySelectorAll("[data-tooltip-hover], [data-tooltip-click]")
-			.forEach(function (trigger) {
-				if (!trigger.hasAttribute("tabindex")) {
-					trigger.setAttribute("tabindex", "0");
-				}
-
-				trigger.addEventListener("keydown", function (event) {
-					if (event.key === "Enter" || event.key === " ") {
-						event.preventDefault();
-						const tooltipId =
-							trigger.dataset.tooltipClick ||
-							trigger.dataset.tooltipHover;
-						const url = trigger.dataset.tooltipSource;
-
-						if (tooltipId && url && trigger.id) {
-							BoxLangAjax.components.tooltip.show(
-								trigger.id,
-								tooltipId,
-								url
-							);
-						}
-					}
-				});
-			});
 	}
 
 	// Initialize tooltip AJAX enhancements
 	function initTooltipAjax() {
-		setupAjaxTooltips();
 		handleResponsiveTooltips();
 		setupTooltipAccessibility();
 
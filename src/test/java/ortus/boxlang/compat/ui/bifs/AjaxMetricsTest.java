@@ -0,0 +1,136 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.compat.ui.bifs;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.compat.ui.BaseIntegrationTest;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.IStruct;
+
+public class AjaxMetricsTest extends BaseIntegrationTest {
+
+	@DisplayName( "It aggregates beacons per component and URL" )
+	@Test
+	public void testAggregatesBeacons() {
+		runtime.executeSource(
+		    """
+		    ajaxMetrics( reset = true );
+		    beacon = {
+		        "buckets" : [ 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000 ],
+		        "metrics" : [
+		            {
+		                "component" : "pod",
+		                "url" : "/fragments/stats.bxm",
+		                "requests" : 3,
+		                "errors" : 1,
+		                "retries" : 2,
+		                "cacheHits" : 1,
+		                "bytes" : 4096,
+		                "latency" : { "counts" : [ 0, 0, 1, 2, 0, 0, 0, 0, 0, 0, 0 ], "sum" : 210, "max" : 90 }
+		            }
+		        ]
+		    };
+		    bxModules.bxUICompat.models.MetricsAggregator::ingest( beacon );
+		    bxModules.bxUICompat.models.MetricsAggregator::ingest( beacon );
+		    result = ajaxMetrics();
+		    entry = result.metrics[ 1 ];
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsStruct( Key.of( "result" ) ).getAsArray( Key.of( "metrics" ) ).size() ).isEqualTo( 1 );
+		IStruct entry = variables.getAsStruct( Key.of( "entry" ) );
+		assertThat( entry.getAsString( Key.of( "component" ) ) ).isEqualTo( "pod" );
+		assertThat( entry.getAsString( Key.of( "url" ) ) ).isEqualTo( "/fragments/stats.bxm" );
+		assertThat( ( ( Number ) entry.get( Key.of( "requests" ) ) ).longValue() ).isEqualTo( 6 );
+		assertThat( ( ( Number ) entry.get( Key.of( "errors" ) ) ).longValue() ).isEqualTo( 2 );
+		assertThat( ( ( Number ) entry.get( Key.of( "bytes" ) ) ).longValue() ).isEqualTo( 8192 );
+		IStruct latency = entry.getAsStruct( Key.of( "latency" ) );
+		assertThat( ( ( Number ) latency.get( Key.of( "count" ) ) ).longValue() ).isEqualTo( 6 );
+		assertThat( ( ( Number ) latency.get( Key.of( "max" ) ) ).longValue() ).isEqualTo( 90 );
+		assertThat( ( ( Number ) latency.get( Key.of( "p99" ) ) ).longValue() ).isEqualTo( 90 );
+	}
+
+	@DisplayName( "It skips malformed beacon entries" )
+	@Test
+	public void testSkipsMalformedEntries() {
+		runtime.executeSource(
+		    """
+		    ajaxMetrics( reset = true );
+		    accepted = bxModules.bxUICompat.models.MetricsAggregator::ingest( {
+		        "buckets" : [ 10, 100 ],
+		        "metrics" : [
+		            { "component" : "Not A Component", "url" : "/a" },
+		            { "component" : "grid", "url" : "http://elsewhere/a" },
+		            { "component" : "grid", "url" : "/b", "requests" : -5 }
+		        ]
+		    } );
+		    result = ajaxMetrics();
+		    entry = result.metrics[ 1 ];
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsInteger( Key.of( "accepted" ) ) ).isEqualTo( 1 );
+		assertThat( variables.getAsStruct( Key.of( "result" ) ).getAsArray( Key.of( "metrics" ) ).size() ).isEqualTo( 1 );
+		IStruct entry = variables.getAsStruct( Key.of( "entry" ) );
+		assertThat( entry.getAsString( Key.of( "url" ) ) ).isEqualTo( "/b" );
+		assertThat( ( ( Number ) entry.get( Key.of( "requests" ) ) ).longValue() ).isEqualTo( 0 );
+	}
+
+	@DisplayName( "It can export the aggregates for Prometheus" )
+	@Test
+	public void testPrometheusFormat() {
+		runtime.executeSource(
+		    """
+		    ajaxMetrics( reset = true );
+		    bxModules.bxUICompat.models.MetricsAggregator::ingest( {
+		        "buckets" : [ 10, 100 ],
+		        "metrics" : [
+		            { "component" : "grid", "url" : "/orders", "requests" : 2, "latency" : { "counts" : [ 1, 1, 0 ], "sum" : 60, "max" : 55 } }
+		        ]
+		    } );
+		    result = ajaxMetrics( "prometheus" );
+		    """,
+		    context
+		);
+
+		String output = variables.getAsString( Key.of( "result" ) );
+		assertThat( output ).contains( "# TYPE bx_ui_fragment_requests_total counter" );
+		assertThat( output ).contains( "bx_ui_fragment_requests_total{component=\"grid\",url=\"/orders\"} 2" );
+		assertThat( output ).contains( "# TYPE bx_ui_fragment_latency_milliseconds histogram" );
+		assertThat( output ).contains( "bx_ui_fragment_latency_milliseconds_bucket{component=\"grid\",url=\"/orders\",le=\"+Inf\"} 2" );
+		assertThat( output ).contains( "bx_ui_fragment_latency_milliseconds_count{component=\"grid\",url=\"/orders\"} 2" );
+	}
+
+	@DisplayName( "It throws error for an invalid format" )
+	@Test
+	public void testInvalidFormat() {
+		try {
+			runtime.executeSource(
+			    """
+			    result = ajaxMetrics( "xml" );
+			    """,
+			    context
+			);
+		} catch ( Exception e ) {
+			assertThat( e.getMessage() ).contains( "The format parameter must be one of: struct,prometheus" );
+		}
+	}
+}
@@ -40,7 +40,7 @@ public class AjaxImportTest extends BaseIntegrationTest {
 
 		// Check CSS imports
 		assertThat( output )
-		    .contains( "<link rel=\"stylesheet\" type=\"text/css\" href=\"/bxmodules/bxUICompat/public/index.bxm?target=css/ajax-core.css\"" );
+		    .containsMatch( "<link rel=\"stylesheet\" type=\"text/css\" href=\"/bxmodules/bxUICompat/public/index\\.bxm\\?target=css/ajax-core\\.css&v=[0-9a-f]+\"" );
 		assertThat( output ).contains( "layout.css" );
 		assertThat( output ).contains( "div.css" );
 		assertThat( output ).contains( "grid.css" );
@@ -49,7 +49,7 @@ public class AjaxImportTest extends BaseIntegrationTest {
 
 		// Check JavaScript imports
 		assertThat( output )
-		    .contains( "<script type=\"text/javascript\" src=\"/bxmodules/bxUICompat/public/index.bxm?target=js/ajax-core.js\"></script>" );
+		    .containsMatch( "<script type=\"text/javascript\" src=\"/bxmodules/bxUICompat/public/index\\.bxm\\?target=js/ajax-core\\.js&v=[0-9a-f]+\"></script>" );
 		assertThat( output ).contains( "layout.js" );
 		assertThat( output ).contains( "div.js" );
 		assertThat( output ).contains( "grid.js" );
@@ -241,4 +241,295 @@ public class AjaxImportTest extends BaseIntegrationTest {
 		assertThat( output ).contains( "div.css" );
 		assertThat( output ).contains( "grid.css" );
 	}
+
+	@DisplayName( "It can import a single content-hashed bundle per type" )
+	@Test
+	public void testBundleImport() {
+		runtime.executeSource(
+		    """
+		    bx:ajaximport tags="layout,grid" bundle="true" {
+		    }
+		    result = getBoxContext().getBuffer().toString()
+		    """,
+		    context
+		);
+
+		String output = variables.getAsString( Key.of( "result" ) );
+		assertThat( output ).containsMatch( "<link rel=\"stylesheet\" type=\"text/css\" href=\"/bxmodules/bxUICompat/public/index\\.bxm\\?bundle=[0-9a-f]{16}\\.css\" />" );
+		assertThat( output ).containsMatch( "<script type=\"text/javascript\" src=\"/bxmodules/bxUICompat/public/index\\.bxm\\?bundle=[0-9a-f]{16}\\.js\"></script>" );
+		assertThat( output ).doesNotContain( "target=css" );
+		assertThat( output ).doesNotContain( "target=js" );
+	}
+
+	@DisplayName( "It serves bundles with the core file first and changes the hash with the tag set" )
+	@Test
+	public void testBundleContent() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.AssetBundler;
+		    layoutHash = AssetBundler::getHash( "js", [ "layout" ] );
+		    gridHash = AssetBundler::getHash( "js", [ "layout", "grid" ] );
+		    sameHash = AssetBundler::getHash( "js", [ " Layout ", "layout", "../secret" ] );
+		    content = AssetBundler::get( layoutHash & ".js" ).content;
+		    wrongType = isNull( AssetBundler::get( layoutHash & ".css" ) );
+		    """,
+		    context
+		);
+
+		String content = variables.getAsString( Key.of( "content" ) );
+		assertThat( variables.getAsString( Key.of( "layoutHash" ) ) ).isNotEqualTo( variables.getAsString( Key.of( "gridHash" ) ) );
+		assertThat( variables.getAsString( Key.of( "sameHash" ) ) ).isEqualTo( variables.getAsString( Key.of( "layoutHash" ) ) );
+		assertThat( content.indexOf( "/* ajax-core.js */" ) ).isEqualTo( 0 );
+		assertThat( content ).contains( "/* layout.js */" );
+		assertThat( content ).doesNotContain( "/* grid.js */" );
+		assertThat( variables.getAsBoolean( Key.of( "wrongType" ) ) ).isTrue();
+	}
+
+	@DisplayName( "It imports custom sources file by file even when bundling" )
+	@Test
+	public void testBundleWithCustomSources() {
+		runtime.executeSource(
+		    """
+		    bx:ajaximport cssSrc="/custom/styles" tags="layout" bundle="true" {
+		    }
+		    result = getBoxContext().getBuffer().toString()
+		    """,
+		    context
+		);
+
+		String output = variables.getAsString( Key.of( "result" ) );
+		assertThat( output ).contains( "href=\"/custom/styles/layout.css\"" );
+		assertThat( output ).containsMatch( "index\\.bxm\\?bundle=[0-9a-f]{16}\\.js" );
+	}
+
+	@DisplayName( "It serves bundles gzipped to browsers that accept it" )
+	@Test
+	public void testBundleEncodingNegotiation() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.AssetBundler;
+		    import bxModules.bxUICompat.models.AssetCache;
+		    bundle = AssetBundler::get( AssetBundler::getHash( "css", [ "pod" ] ) & ".css" );
+		    accepted = AssetCache::negotiate( "deflate, gzip, br", bundle );
+		    refused = AssetCache::negotiate( "gzip;q=0, deflate", bundle );
+		    wildcard = AssetCache::negotiate( "*", bundle );
+		    unzipped = createObject( "java", "java.util.zip.GZIPInputStream" )
+		        .init( createObject( "java", "java.io.ByteArrayInputStream" ).init( accepted.bytes ) )
+		        .readAllBytes();
+		    roundTrip = charsetEncode( unzipped, "UTF-8" ) == bundle.content;
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsStruct( Key.of( "accepted" ) ).getAsString( Key.of( "encoding" ) ) ).isEqualTo( "gzip" );
+		assertThat( variables.getAsStruct( Key.of( "refused" ) ).getAsString( Key.of( "encoding" ) ) ).isEmpty();
+		assertThat( variables.getAsStruct( Key.of( "wildcard" ) ).getAsString( Key.of( "encoding" ) ) ).isEqualTo( "gzip" );
+		assertThat( variables.getAsStruct( Key.of( "accepted" ) ).getAsString( Key.of( "etag" ) ) ).endsWith( "-gzip\"" );
+		assertThat( variables.getAsBoolean( Key.of( "roundTrip" ) ) ).isTrue();
+	}
+
+	@DisplayName( "It imports only the assets of the components rendered in auto mode" )
+	@Test
+	public void testAutoImport() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.AssetRegistry;
+		    bx:ajaximport auto="true" {
+		    }
+		    bx:pod title="First" {
+		        writeOutput( "One" );
+		    }
+		    bx:pod title="Second" {
+		        writeOutput( "Two" );
+		    }
+		    bx:ajaxproxy cfc="myapp.components.UserService" {
+		    }
+		    rendered = getBoxContext().getBuffer().toString()
+		    result = AssetRegistry::inject( rendered )
+		    """,
+		    context
+		);
+
+		String rendered	= variables.getAsString( Key.of( "rendered" ) );
+		String output	= variables.getAsString( Key.of( "result" ) );
+		assertThat( rendered ).contains( "<!--bx-ui-compat:assets-->" );
+		assertThat( rendered ).doesNotContain( "ajax-core.css" );
+
+		assertThat( output ).doesNotContain( "<!--bx-ui-compat:assets-->" );
+		assertThat( output ).containsMatch( "href=\"/bxmodules/bxUICompat/public/index\\.bxm\\?target=css/ajax-core\\.css&v=[0-9a-f]+\"" );
+		assertThat( output ).containsMatch( "href=\"/bxmodules/bxUICompat/public/index\\.bxm\\?target=css/pod\\.css&v=[0-9a-f]+\"" );
+		assertThat( output ).containsMatch( "src=\"/bxmodules/bxUICompat/public/index\\.bxm\\?target=js/pod\\.js&v=[0-9a-f]+\"" );
+		assertThat( output ).containsMatch( "src=\"/bxmodules/bxUICompat/public/index\\.bxm\\?target=js/ajaxproxy\\.js&v=[0-9a-f]+\"" );
+		assertThat( output ).doesNotContain( "ajaxproxy.css" );
+		assertThat( output ).doesNotContain( "grid.js" );
+		assertThat( output ).doesNotContain( "layout.css" );
+		assertThat( output.indexOf( "pod.js" ) ).isEqualTo( output.lastIndexOf( "pod.js" ) );
+	}
+
+	@DisplayName( "It can add the assets of the rendered components before the end of the body" )
+	@Test
+	public void testInjectAtBodyEnd() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.AssetRegistry;
+		    AssetRegistry::configure( true );
+		    try {
+		        bx:tooltip tooltip="Help" {
+		            writeOutput( "?" );
+		        }
+		        page = "<html><body>" & getBoxContext().getBuffer().toString() & "</BODY></html>";
+		        result = AssetRegistry::inject( page );
+		        bx:ajaximport tags="tooltip" {
+		        }
+		        imported = isNull( AssetRegistry::inject( page ) );
+		    } finally {
+		        AssetRegistry::configure( false );
+		    }
+		    """,
+		    context
+		);
+
+		String output = variables.getAsString( Key.of( "result" ) );
+		assertThat( output ).containsMatch( "tooltip\\.js\"></script></BODY></html>$" );
+		assertThat( output ).contains( "tooltip.css" );
+		assertThat( variables.getAsBoolean( Key.of( "imported" ) ) ).isTrue();
+	}
+
+	@DisplayName( "It imports every file and the bootstrap once per request" )
+	@Test
+	public void testDeduplicatedImports() {
+		runtime.executeSource(
+		    """
+		    bx:ajaximport tags="layout,grid" {
+		    }
+		    bx:ajaximport tags="layout,pod" params="apikey=XYZ789" {
+		    }
+		    bx:ajaximport tags="grid" {
+		    }
+		    result = getBoxContext().getBuffer().toString()
+		    """,
+		    context
+		);
+
+		String output = variables.getAsString( Key.of( "result" ) );
+		for ( String file : new String[] { "ajax-core.css", "ajax-core.js", "layout.css", "layout.js", "grid.js", "pod.js" } ) {
+			assertThat( output.indexOf( file ) ).isEqualTo( output.lastIndexOf( file ) );
+		}
+		assertThat( output ).contains( "pod.css" );
+		assertThat( output.indexOf( "// BoxLang AJAX Initialization" ) ).isEqualTo( output.lastIndexOf( "// BoxLang AJAX Initialization" ) );
+		assertThat( output ).contains( "BoxLangAjax.config.params['apikey'] = 'XYZ789'" );
+		// The ajax-core.js utilities are not replaced by the fallbacks
+		assertThat( output ).contains( "if (!BoxLangAjax.utils.fetchContent) {" );
+		// The last import had nothing left to write
+		assertThat( output ).endsWith( "</script>" );
+	}
+
+	@DisplayName( "It leaves the files a page already imported out of later bundles" )
+	@Test
+	public void testDeduplicatedBundles() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.AssetBundler;
+		    bx:ajaximport tags="layout" bundle="true" {
+		    }
+		    first = getBoxContext().getBuffer().toString()
+		    bx:ajaximport tags="layout,grid" bundle="true" {
+		    }
+		    result = getBoxContext().getBuffer().toString()
+		    gridHash = AssetBundler::getHash( "js", [ "grid" ], false )
+		    content = AssetBundler::get( gridHash & ".js" ).content
+		    """,
+		    context
+		);
+
+		String	first	= variables.getAsString( Key.of( "first" ) );
+		String	output	= variables.getAsString( Key.of( "result" ) ).substring( first.length() );
+		String	content	= variables.getAsString( Key.of( "content" ) );
+		assertThat( output ).contains( "index.bxm?bundle=" + variables.getAsString( Key.of( "gridHash" ) ) + ".js" );
+		assertThat( output ).doesNotContain( "// BoxLang AJAX Initialization" );
+		assertThat( content ).contains( "/* grid.js */" );
+		assertThat( content ).doesNotContain( "/* ajax-core.js */" );
+		assertThat( content ).doesNotContain( "/* layout.js */" );
+	}
+
+	@DisplayName( "It registers component scripts with the lazy loader in lazy mode" )
+	@Test
+	public void testLazyImport() {
+		runtime.executeSource(
+		    """
+		    bx:ajaximport tags="grid,tooltip,ajaxproxy" lazy="true" {
+		    }
+		    result = getBoxContext().getBuffer().toString()
+		    """,
+		    context
+		);
+
+		String output = variables.getAsString( Key.of( "result" ) );
+		assertThat( output ).containsMatch( "src=\"/bxmodules/bxUICompat/public/index\\.bxm\\?target=js/ajax-core\\.js&v=[0-9a-f]+\"" );
+		assertThat( output ).containsMatch( "src=\"/bxmodules/bxUICompat/public/index\\.bxm\\?target=js/ajaxproxy\\.js&v=[0-9a-f]+\"" );
+		assertThat( output ).doesNotContain( "grid.js\"></script>" );
+		assertThat( output ).doesNotContain( "tooltip.js\"></script>" );
+		assertThat( output ).contains( "BoxLangAjax.lazyLoader.register('grid', '" );
+		assertThat( output ).contains( "BoxLangAjax.lazyLoader.register('tooltip', '" );
+		assertThat( output ).doesNotContain( "BoxLangAjax.lazyLoader.register('ajaxproxy'" );
+		// Stylesheets still load with the page
+		assertThat( output ).contains( "grid.css" );
+		assertThat( output ).contains( "tooltip.css" );
+		assertThat( output.indexOf( "ajax-core.js" ) ).isLessThan( output.indexOf( "BoxLangAjax.lazyLoader.register" ) );
+	}
+
+	@DisplayName( "It inlines the critical CSS and loads the stylesheets asynchronously in critical mode" )
+	@Test
+	public void testCriticalImport() {
+		runtime.executeSource(
+		    """
+		    bx:ajaximport tags="layout,pod" critical="true" {
+		    }
+		    result = getBoxContext().getBuffer().toString()
+		    """,
+		    context
+		);
+
+		String	output	= variables.getAsString( Key.of( "result" ) );
+		String	inlined	= output.substring( output.indexOf( "<style type=\"text/css\">" ), output.indexOf( "</style>" ) );
+		assertThat( inlined ).contains( ".bx-ajax-container" );
+		assertThat( inlined ).contains( ".bx-layoutarea" );
+		assertThat( inlined ).contains( ".bx-pod-header" );
+		assertThat( inlined ).doesNotContain( ".bx-source-error" );
+		assertThat( output ).containsMatch(
+		    "<link rel=\"preload\" as=\"style\" href=\"/bxmodules/bxUICompat/public/index\\.bxm\\?target=css/pod\\.css&v=[0-9a-f]+\" onload=\"this\\.onload=null;this\\.rel='stylesheet'\" />"
+		);
+		assertThat( output ).containsMatch(
+		    "<noscript><link rel=\"stylesheet\" type=\"text/css\" href=\"/bxmodules/bxUICompat/public/index\\.bxm\\?target=css/pod\\.css&v=[0-9a-f]+\" /></noscript>"
+		);
+		assertThat( output.indexOf( "</style>" ) ).isLessThan( output.indexOf( "rel=\"preload\"" ) );
+		// Scripts are not affected
+		assertThat( output ).containsMatch( "<script type=\"text/javascript\" src=\"/bxmodules/bxUICompat/public/index\\.bxm\\?target=js/pod\\.js&v=[0-9a-f]+\"></script>" );
+	}
+
+	@DisplayName( "It extracts the marked critical sections of a stylesheet" )
+	@Test
+	public void testCriticalExtraction() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.CriticalCSS;
+		    result = CriticalCSS::extract( ".a { color: red; }
+		    /* critical:start */
+		    .b { display: flex; }
+		    /* critical:end */
+		    .c { color: blue; }
+		    /*critical:start*/.d { position: relative; }/*critical:end*/" );
+		    bx:ajaximport cssSrc="/custom/styles" tags="pod" critical="true" {
+		    }
+		    custom = getBoxContext().getBuffer().toString()
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsString( Key.of( "result" ) ) ).isEqualTo( ".b { display: flex; }\n.d { position: relative; }" );
+		// The critical rules only match the module's own stylesheets
+		String custom = variables.getAsString( Key.of( "custom" ) );
+		assertThat( custom ).doesNotContain( "<style" );
+		assertThat( custom ).contains( "<link rel=\"stylesheet\" type=\"text/css\" href=\"/custom/styles/pod.css\" />" );
+	}
 }
\ No newline at end of file
@@ -177,4 +177,58 @@ public class AjaxProxyTest extends BaseIntegrationTest {
 		assertThat( output ).contains( "if (!response.ok)" );
 		assertThat( output ).contains( "HTTP ' + response.status + ': ' + response.statusText" );
 	}
-}
\ No newline at end of file
+
+	@DisplayName( "It dispatches through the module proxy and caches results the server declares cacheable" )
+	@Test
+	public void testProxyResultCaching() {
+		runtime.executeSource(
+		    """
+		    bx:ajaxproxy cfc="lookups.CountryService" {
+		    }
+		    result = getBoxContext().getBuffer().toString()
+		    """,
+		    context
+		);
+
+		String output = variables.getAsString( Key.of( "result" ) );
+		assertThat( output ).contains( "this.url = '/bxmodules/bxUICompat/public/proxy.bxm'" );
+		assertThat( output ).contains( "this.resultCache = new Map()" );
+		assertThat( output ).contains( "cached.expires > Date.now()" );
+		assertThat( output ).contains( "this.cacheResult(cacheKey, result, response.headers.get('cache-control'))" );
+		assertThat( output ).doesNotContain( "/index.cfm" );
+	}
+
+	@DisplayName( "It can send proxy calls as JSON" )
+	@Test
+	public void testJSONTransport() {
+		runtime.executeSource(
+		    """
+		    bx:ajaxproxy cfc="services.OrderService" jsclassname="Orders" transport="json" {
+		    }
+		    result = getBoxContext().getBuffer().toString()
+		    """,
+		    context
+		);
+
+		String output = variables.getAsString( Key.of( "result" ) );
+		assertThat( output ).contains( "this.transport = 'json'" );
+		assertThat( output ).contains( "headers['Content-Type'] = 'application/json'" );
+		assertThat( output ).contains( "JSON.stringify({ cfc: this.cfcPath, method: methodName, args: args })" );
+	}
+
+	@DisplayName( "It throws error for an invalid transport" )
+	@Test
+	public void testInvalidTransport() {
+		try {
+			runtime.executeSource(
+			    """
+			    bx:ajaxproxy cfc="services.OrderService" transport="xml" {
+			    }
+			    """,
+			    context
+			);
+		} catch ( Exception e ) {
+			assertThat( e.getMessage() ).contains( "The transport attribute must be either form or json" );
+		}
+	}
+}
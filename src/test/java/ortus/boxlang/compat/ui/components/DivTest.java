@@ -139,7 +139,7 @@ public class DivTest extends BaseIntegrationTest {
 		}
 	}
 
-	@DisplayName( "It generates JavaScript for bind functionality" )
+	@DisplayName( "It renders bind configuration as data attributes instead of inline JavaScript" )
 	@Test
 	public void testDivBindJavaScript() {
 		runtime.executeSource(
@@ -152,12 +152,9 @@ public class DivTest extends BaseIntegrationTest {
 		);
 
 		String output = variables.getAsString( Key.of( "result" ) );
-		assertThat( output ).contains( "<script type=\"text/javascript\">" );
-		assertThat( output ).contains( "executeBind" );
-		assertThat( output ).contains( "fetch(" );
-		assertThat( output ).contains( "handleError" );
-		assertThat( output ).contains( "bindSuccess" );
-		assertThat( output ).contains( "bindError" );
+		assertThat( output ).contains( "data-bind=\"cfc:myComponent.getData\"" );
+		assertThat( output ).contains( "data-on-bind-error=\"handleError\"" );
+		assertThat( output ).doesNotContain( "<script" );
 	}
 
 	@DisplayName( "It auto-generates ID when not provided" )
@@ -237,7 +234,7 @@ public class DivTest extends BaseIntegrationTest {
 		assertThat( output ).contains( "bx-bind-on-load" );
 	}
 
-	@DisplayName( "It exposes executeBind function for manual triggering" )
+	@DisplayName( "It leaves manually triggered binds to executeBind" )
 	@Test
 	public void testDivManualBind() {
 		runtime.executeSource(
@@ -250,8 +247,8 @@ public class DivTest extends BaseIntegrationTest {
 		);
 
 		String output = variables.getAsString( Key.of( "result" ) );
-		assertThat( output ).contains( "divElement.executeBind = executeBind" );
 		assertThat( output ).contains( "id=\"manualDiv\"" );
+		assertThat( output ).contains( "bx-div-bind" );
 		assertThat( output ).contains( "data-bind-on-load=\"false\"" );
 	}
 }
\ No newline at end of file
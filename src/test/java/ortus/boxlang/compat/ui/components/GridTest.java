@@ -179,7 +179,7 @@ public class GridTest extends BaseIntegrationTest {
 		assertThat( output ).contains( "bx-grid-body" );
 	}
 
-	@DisplayName( "It generates JavaScript for grid functionality" )
+	@DisplayName( "It renders grid event handlers as data attributes instead of inline JavaScript" )
 	@Test
 	public void testGridJavaScript() {
 		runtime.executeSource(
@@ -199,14 +199,10 @@ public class GridTest extends BaseIntegrationTest {
 		);
 
 		String output = variables.getAsString( Key.of( "result" ) );
-		assertThat( output ).contains( "<script type=\"text/javascript\">" );
-		assertThat( output ).contains( "addEventListener('click'" );
-		assertThat( output ).contains( "sortColumn" );
-		assertThat( output ).contains( "goToPage" );
-		assertThat( output ).contains( "toggleSelectAll" );
-		assertThat( output ).contains( "gridLoaded();" );
-		assertThat( output ).contains( "cellEdited(column, row, value);" );
-		assertThat( output ).contains( "columnSorted(column, newSort);" );
+		assertThat( output ).contains( "data-on-load=\"gridLoaded\"" );
+		assertThat( output ).contains( "data-on-edit=\"cellEdited\"" );
+		assertThat( output ).contains( "data-on-sort=\"columnSorted\"" );
+		assertThat( output ).doesNotContain( "<script" );
 	}
 
 	@DisplayName( "It auto-generates ID when not provided" )
@@ -335,7 +331,7 @@ public class GridTest extends BaseIntegrationTest {
 		assertThat( output ).contains( "Next" );
 	}
 
-	@DisplayName( "It fires custom events for grid interactions" )
+	@DisplayName( "It renders the interaction options the shared runtime reads" )
 	@Test
 	public void testGridCustomEvents() {
 		runtime.executeSource(
@@ -349,11 +345,11 @@ public class GridTest extends BaseIntegrationTest {
 		);
 
 		String output = variables.getAsString( Key.of( "result" ) );
-		assertThat( output ).contains( "gridCellEdit" );
-		assertThat( output ).contains( "gridSort" );
-		assertThat( output ).contains( "gridPageChange" );
-		assertThat( output ).contains( "CustomEvent" );
-		assertThat( output ).contains( "dispatchEvent" );
+		assertThat( output ).contains( "data-name=\"eventGrid\"" );
+		assertThat( output ).contains( "data-sortable=\"true\"" );
+		assertThat( output ).contains( "data-editable=\"true\"" );
+		assertThat( output ).doesNotContain( "data-on-load" );
+		assertThat( output ).doesNotContain( "<script" );
 	}
 
 	@DisplayName( "It can handle color attributes" )
@@ -521,4 +517,89 @@ public class GridTest extends BaseIntegrationTest {
 		Boolean hasError = variables.getAsBoolean( Key.of( "hasError" ) );
 		assertThat( hasError ).isTrue();
 	}
-}
\ No newline at end of file
+
+	@DisplayName( "It validates flushInterval attribute" )
+	@Test
+	public void testGridFlushIntervalValidation() {
+		runtime.executeSource(
+		    """
+		    try {
+		        bx:grid name="invalidGrid" flushInterval="-1" {
+		            bx:gridcolumn name="test";
+		        }
+		        hasError = false;
+		    } catch (any e) {
+		        hasError = true;
+		        errorMessage = e.message;
+		    }
+		    """,
+		    context
+		);
+
+		Boolean hasError = variables.getAsBoolean( Key.of( "hasError" ) );
+		assertThat( hasError ).isTrue();
+		assertThat( variables.getAsString( Key.of( "errorMessage" ) ) ).contains( "flushInterval" );
+	}
+
+	@DisplayName( "It keeps the page buffered for the assets of an auto import" )
+	@Test
+	public void testGridFlushIntervalWithAutoImport() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.AssetRegistry;
+		    myQuery = queryNew("id,name", "integer,varchar", [
+		        [1, "Record 1"], [2, "Record 2"], [3, "Record 3"],
+		        [4, "Record 4"], [5, "Record 5"], [6, "Record 6"]
+		    ]);
+
+		    bx:ajaximport auto="true" {
+		    }
+		    bx:grid name="streamedGrid" query="#myQuery#" flushInterval="2" {
+		        bx:gridcolumn name="id" header="ID";
+		        bx:gridcolumn name="name" header="Name";
+		    }
+		    rendered = getBoxContext().getBuffer().toString()
+		    result = AssetRegistry::inject( rendered )
+		    """,
+		    context
+		);
+
+		String rendered	= variables.getAsString( Key.of( "rendered" ) );
+		String output	= variables.getAsString( Key.of( "result" ) );
+		assertThat( rendered ).contains( "<!--bx-ui-compat:assets-->" );
+		assertThat( rendered ).contains( "Record 1" );
+		assertThat( rendered ).contains( "Record 6" );
+		assertThat( output ).containsMatch( "src=\"/bxmodules/bxUICompat/public/index\\.bxm\\?target=js/grid\\.js&v=[0-9a-f]+\"" );
+	}
+
+	@DisplayName( "It keeps the page buffered when assets are injected before the end of the body" )
+	@Test
+	public void testGridFlushIntervalWithInjectAssets() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.AssetRegistry;
+		    myQuery = queryNew("id,name", "integer,varchar", [
+		        [1, "Record 1"], [2, "Record 2"], [3, "Record 3"], [4, "Record 4"]
+		    ]);
+
+		    AssetRegistry::configure( true );
+		    try {
+		        writeOutput( "<html><body>" );
+		        bx:grid name="streamedGrid" query="#myQuery#" flushInterval="1" {
+		            bx:gridcolumn name="name" header="Name";
+		        }
+		        writeOutput( "</body></html>" );
+		        rendered = getBoxContext().getBuffer().toString()
+		    } finally {
+		        AssetRegistry::configure( false );
+		    }
+		    """,
+		    context
+		);
+
+		String rendered = variables.getAsString( Key.of( "rendered" ) );
+		assertThat( rendered ).contains( "<html><body>" );
+		assertThat( rendered ).contains( "Record 1" );
+		assertThat( rendered ).contains( "Record 4" );
+	}
+}
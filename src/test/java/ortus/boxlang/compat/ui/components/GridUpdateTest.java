@@ -44,8 +44,11 @@ public class GridUpdateTest extends BaseIntegrationTest {
 		assertThat( output ).contains( "gridName" );
 		assertThat( output ).contains( "myGrid" );
 		assertThat( output ).contains( "gridData" );
-		assertThat( output ).contains( "<script type=\"text/javascript\">" );
-		assertThat( output ).contains( "updateDatabase" );
+		assertThat( output ).contains( "data-grid=\"myGrid\"" );
+		assertThat( output ).contains( "data-datasource=\"myDataSource\"" );
+		assertThat( output ).contains( "data-table-name=\"employees\"" );
+		assertThat( output ).contains( "data-key-only=\"false\"" );
+		assertThat( output ).doesNotContain( "<script" );
 	}
 
 	@DisplayName( "It can create grid update with URL configuration" )
@@ -66,11 +69,11 @@ public class GridUpdateTest extends BaseIntegrationTest {
 
 		String output = variables.getAsString( Key.of( "result" ) );
 		assertThat( output ).contains( "method=\"PUT\"" );
-		assertThat( output ).contains( "action=\"/api/update-grid\"" );
+		assertThat( output ).contains( "action=\"&#x2f;api&#x2f;update-grid\"" );
 		assertThat( output ).contains( "urlGrid" );
-		assertThat( output ).contains( "updateViaURL" );
-		assertThat( output ).contains( "handleSuccess" );
-		assertThat( output ).contains( "handleError" );
+		assertThat( output ).contains( "data-url=\"&#x2f;api&#x2f;update-grid\"" );
+		assertThat( output ).contains( "data-on-success=\"handleSuccess\"" );
+		assertThat( output ).contains( "data-on-error=\"handleError\"" );
 	}
 
 	@DisplayName( "It throws error when grid attribute is missing" )
@@ -123,7 +126,7 @@ public class GridUpdateTest extends BaseIntegrationTest {
 		}
 	}
 
-	@DisplayName( "It generates JavaScript for change tracking" )
+	@DisplayName( "It marks the form for change tracking by the shared runtime" )
 	@Test
 	public void testGridUpdateChangeTracking() {
 		runtime.executeSource(
@@ -138,16 +141,13 @@ public class GridUpdateTest extends BaseIntegrationTest {
 		);
 
 		String output = variables.getAsString( Key.of( "result" ) );
-		assertThat( output ).contains( "modifiedCells" );
-		assertThat( output ).contains( "deletedRows" );
-		assertThat( output ).contains( "newRows" );
-		assertThat( output ).contains( "gridCellEdit" );
-		assertThat( output ).contains( "gridRowDelete" );
-		assertThat( output ).contains( "gridRowAdd" );
-		assertThat( output ).contains( "addEventListener" );
+		assertThat( output ).contains( "class=\"bx-grid-update\"" );
+		assertThat( output ).contains( "data-grid=\"trackingGrid\"" );
+		assertThat( output ).doesNotContain( "<script" );
+		assertThat( output ).doesNotContain( "addEventListener" );
 	}
 
-	@DisplayName( "It creates public update function" )
+	@DisplayName( "It names the grid the public update function is created for" )
 	@Test
 	public void testGridUpdatePublicFunction() {
 		runtime.executeSource(
@@ -161,8 +161,8 @@ public class GridUpdateTest extends BaseIntegrationTest {
 		);
 
 		String output = variables.getAsString( Key.of( "result" ) );
-		assertThat( output ).contains( "window['updateGrid_publicFunctionGrid']" );
-		assertThat( output ).contains( "function()" );
+		assertThat( output ).contains( "data-grid=\"publicFunctionGrid\"" );
+		assertThat( output ).contains( "name=\"gridName\" value=\"publicFunctionGrid\"" );
 	}
 
 	@DisplayName( "It handles database authentication" )
@@ -183,12 +183,12 @@ public class GridUpdateTest extends BaseIntegrationTest {
 		);
 
 		String output = variables.getAsString( Key.of( "result" ) );
-		assertThat( output ).contains( "payload.username" );
-		assertThat( output ).contains( "payload.password" );
-		assertThat( output ).contains( "keyOnly: true" );
+		assertThat( output ).contains( "data-username=\"dbuser\"" );
+		assertThat( output ).contains( "data-password=\"dbpass\"" );
+		assertThat( output ).contains( "data-key-only=\"true\"" );
 	}
 
-	@DisplayName( "It generates database update endpoint call" )
+	@DisplayName( "It leaves out the URL configuration for database updates" )
 	@Test
 	public void testGridUpdateDatabaseEndpoint() {
 		runtime.executeSource(
@@ -203,10 +203,10 @@ public class GridUpdateTest extends BaseIntegrationTest {
 		);
 
 		String output = variables.getAsString( Key.of( "result" ) );
-		assertThat( output ).contains( "/bx-ui-compat/gridupdate" );
-		assertThat( output ).contains( "fetch(" );
-		assertThat( output ).contains( "application/json" );
-		assertThat( output ).contains( "JSON.stringify" );
+		assertThat( output ).contains( "data-datasource=\"myDB\"" );
+		assertThat( output ).contains( "data-table-name=\"myTable\"" );
+		assertThat( output ).doesNotContain( "data-url=" );
+		assertThat( output ).doesNotContain( "action=" );
 	}
 
 	@DisplayName( "It handles URL updates with form data" )
@@ -224,12 +224,12 @@ public class GridUpdateTest extends BaseIntegrationTest {
 		);
 
 		String output = variables.getAsString( Key.of( "result" ) );
-		assertThat( output ).contains( "FormData(updateForm)" );
-		assertThat( output ).contains( "/update-endpoint" );
-		assertThat( output ).contains( "POST" );
+		assertThat( output ).contains( "name=\"gridData\"" );
+		assertThat( output ).contains( "data-url=\"&#x2f;update-endpoint\"" );
+		assertThat( output ).contains( "data-method=\"POST\"" );
 	}
 
-	@DisplayName( "It fires success and error events" )
+	@DisplayName( "It renders success and error handlers as data attributes" )
 	@Test
 	public void testGridUpdateEvents() {
 		runtime.executeSource(
@@ -245,15 +245,12 @@ public class GridUpdateTest extends BaseIntegrationTest {
 		);
 
 		String output = variables.getAsString( Key.of( "result" ) );
-		assertThat( output ).contains( "gridUpdateSuccess" );
-		assertThat( output ).contains( "gridUpdateError" );
-		assertThat( output ).contains( "CustomEvent" );
-		assertThat( output ).contains( "mySuccess" );
-		assertThat( output ).contains( "myError" );
-		assertThat( output ).contains( "dispatchEvent" );
+		assertThat( output ).contains( "data-on-success=\"mySuccess\"" );
+		assertThat( output ).contains( "data-on-error=\"myError\"" );
+		assertThat( output ).doesNotContain( "<script" );
 	}
 
-	@DisplayName( "It handles content type detection in responses" )
+	@DisplayName( "It leaves out the database configuration for URL updates" )
 	@Test
 	public void testGridUpdateContentType() {
 		runtime.executeSource(
@@ -267,10 +264,9 @@ public class GridUpdateTest extends BaseIntegrationTest {
 		);
 
 		String output = variables.getAsString( Key.of( "result" ) );
-		assertThat( output ).contains( "content-type" );
-		assertThat( output ).contains( "application/json" );
-		assertThat( output ).contains( "response.json()" );
-		assertThat( output ).contains( "response.text()" );
+		assertThat( output ).contains( "data-url=\"&#x2f;api&#x2f;flexible-response\"" );
+		assertThat( output ).doesNotContain( "data-datasource=" );
+		assertThat( output ).doesNotContain( "data-table-name=" );
 	}
 
 	@DisplayName( "It includes table metadata in database updates" )
@@ -290,12 +286,12 @@ public class GridUpdateTest extends BaseIntegrationTest {
 		);
 
 		String output = variables.getAsString( Key.of( "result" ) );
-		assertThat( output ).contains( "tableOwner: 'inventory'" );
-		assertThat( output ).contains( "tableQualifier: 'production'" );
-		assertThat( output ).contains( "tableName: 'products'" );
+		assertThat( output ).contains( "data-table-owner=\"inventory\"" );
+		assertThat( output ).contains( "data-table-qualifier=\"production\"" );
+		assertThat( output ).contains( "data-table-name=\"products\"" );
 	}
 
-	@DisplayName( "It clears tracking data after successful update" )
+	@DisplayName( "It renders one hidden form per grid update" )
 	@Test
 	public void testGridUpdateTrackingClear() {
 		runtime.executeSource(
@@ -309,8 +305,8 @@ public class GridUpdateTest extends BaseIntegrationTest {
 		);
 
 		String output = variables.getAsString( Key.of( "result" ) );
-		assertThat( output ).contains( "modifiedCells.clear()" );
-		assertThat( output ).contains( "deletedRows.clear()" );
-		assertThat( output ).contains( "newRows = []" );
+		assertThat( output ).contains( "style=\"display: none;\"" );
+		assertThat( output ).contains( "name=\"action\" value=\"update\"" );
+		assertThat( output ).contains( "</form>" );
 	}
 }
\ No newline at end of file
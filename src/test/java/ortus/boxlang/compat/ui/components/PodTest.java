@@ -167,7 +167,7 @@ public class PodTest extends BaseIntegrationTest {
 		assertThat( output ).contains( "Loading content..." );
 	}
 
-	@DisplayName( "It generates JavaScript for AJAX source loading" )
+	@DisplayName( "It renders AJAX source loading as data attributes instead of inline JavaScript" )
 	@Test
 	public void testPodSourceJavaScript() {
 		runtime.executeSource(
@@ -180,10 +180,10 @@ public class PodTest extends BaseIntegrationTest {
 		);
 
 		String output = variables.getAsString( Key.of( "result" ) );
-		assertThat( output ).contains( "<script type=\"text/javascript\">" );
-		assertThat( output ).contains( "fetch(sourceUrl)" );
-		assertThat( output ).contains( "handleError" );
+		assertThat( output ).contains( "data-on-bind-error=\"handleError\"" );
+		assertThat( output ).contains( "data-source=\"/api/content\"" );
 		assertThat( output ).contains( "bx-source-loading" );
+		assertThat( output ).doesNotContain( "<script" );
 	}
 
 	@DisplayName( "It auto-generates ID when not provided" )
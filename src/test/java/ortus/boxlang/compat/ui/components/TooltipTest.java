@@ -123,7 +123,7 @@ public class TooltipTest extends BaseIntegrationTest {
 		assertThat( output ).contains( "Protected element" );
 	}
 
-	@DisplayName( "It generates tooltip container and JavaScript" )
+	@DisplayName( "It generates the tooltip container without inline JavaScript" )
 	@Test
 	public void testTooltipJavaScript() {
 		runtime.executeSource(
@@ -138,12 +138,8 @@ public class TooltipTest extends BaseIntegrationTest {
 
 		String output = variables.getAsString( Key.of( "result" ) );
 		assertThat( output ).contains( "<div id=\"jsTooltip_tooltip\" class=\"bx-tooltip\"" );
-		assertThat( output ).contains( "<script type=\"text/javascript\">" );
-		assertThat( output ).contains( "showTooltip" );
-		assertThat( output ).contains( "hideTooltip" );
-		assertThat( output ).contains( "positionTooltip" );
-		assertThat( output ).contains( "mouseenter" );
-		assertThat( output ).contains( "mouseleave" );
+		assertThat( output ).contains( "id=\"jsTooltip\" class=\"bx-tooltip-trigger\"" );
+		assertThat( output ).doesNotContain( "<script" );
 	}
 
 	@DisplayName( "It auto-generates ID when not provided" )
@@ -204,7 +200,7 @@ public class TooltipTest extends BaseIntegrationTest {
 		assertThat( output ).contains( "HTML tooltip element" );
 	}
 
-	@DisplayName( "It generates positioning logic in JavaScript" )
+	@DisplayName( "It renders positioning options as data attributes" )
 	@Test
 	public void testTooltipPositioning() {
 		runtime.executeSource(
@@ -218,15 +214,12 @@ public class TooltipTest extends BaseIntegrationTest {
 		);
 
 		String output = variables.getAsString( Key.of( "result" ) );
-		assertThat( output ).contains( "getBoundingClientRect" );
-		assertThat( output ).contains( "window.innerWidth" );
-		assertThat( output ).contains( "window.innerHeight" );
-		assertThat( output ).contains( "preventOverlap" );
-		assertThat( output ).contains( "pageXOffset" );
-		assertThat( output ).contains( "pageYOffset" );
+		assertThat( output ).contains( "data-prevent-overlap=\"true\"" );
+		assertThat( output ).contains( "Positioning test" );
+		assertThat( output ).doesNotContain( "<script" );
 	}
 
-	@DisplayName( "It handles dynamic content loading with fetch" )
+	@DisplayName( "It renders the dynamic content source as a data attribute" )
 	@Test
 	public void testTooltipDynamicContent() {
 		runtime.executeSource(
@@ -241,18 +234,20 @@ public class TooltipTest extends BaseIntegrationTest {
 
 		String output = variables.getAsString( Key.of( "result" ) );
 		assertThat( output ).contains( "data-source=\"/api/dynamic-tooltip\"" );
-		assertThat( output ).contains( "fetch(sourceUrl)" );
-		assertThat( output ).contains( "Loading..." );
-		assertThat( output ).contains( "Error loading content" );
+		assertThat( output ).contains( "data-show-delay=\"200\"" );
+		assertThat( output ).doesNotContain( "<script" );
 	}
 
-	@DisplayName( "It handles scroll and resize events" )
+	@DisplayName( "It does not repeat behavior code for every tooltip on a page" )
 	@Test
 	public void testTooltipEventHandling() {
 		runtime.executeSource(
 		    """
-		    bx:tooltip tooltip="Event handling tooltip" {
-		        writeOutput("Event test element");
+		    bx:tooltip tooltip="First tooltip" {
+		        writeOutput("First element");
+		    }
+		    bx:tooltip tooltip="Second tooltip" {
+		        writeOutput("Second element");
 		    }
 		    result = getBoxContext().getBuffer().toString()
 		    """,
@@ -260,9 +255,10 @@ public class TooltipTest extends BaseIntegrationTest {
 		);
 
 		String output = variables.getAsString( Key.of( "result" ) );
-		assertThat( output ).contains( "addEventListener('scroll', hideTooltip)" );
-		assertThat( output ).contains( "addEventListener('resize', hideTooltip)" );
-		assertThat( output ).contains( "addEventListener('mousemove'" );
+		assertThat( output ).contains( "data-tooltip=\"First&#x20;tooltip\"" );
+		assertThat( output ).contains( "data-tooltip=\"Second&#x20;tooltip\"" );
+		assertThat( output ).doesNotContain( "<script" );
+		assertThat( output ).doesNotContain( "addEventListener" );
 	}
 
 	@DisplayName( "It applies default timing values correctly" )
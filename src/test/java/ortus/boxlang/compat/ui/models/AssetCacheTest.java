@@ -0,0 +1,71 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.compat.ui.models;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.compat.ui.BaseIntegrationTest;
+import ortus.boxlang.runtime.scopes.Key;
+
+public class AssetCacheTest extends BaseIntegrationTest {
+
+	@DisplayName( "It keys assets by their normalized path and evicts the oldest entry when full" )
+	@Test
+	public void testCanonicalEntries() {
+		variables.put( Key.of( "modulePublic" ), moduleRecord.path + "/public" );
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.AssetCache;
+		    root = getTempDirectory() & "/bx-asset-cache-" & createUUID();
+		    directoryCreate( root & "/public/js", true );
+		    fileWrite( root & "/public/js/a.js", "var a;" );
+		    fileWrite( root & "/public/js/b.js", "var b;" );
+		    fileWrite( root & "/public/js/c.js", "var c;" );
+		    fileWrite( root & "/secret.js", "var secret;" );
+		    try {
+		        AssetCache::configure( "production", root & "/public", 2 );
+		        found = !isNull( AssetCache::get( "js/a.js" ) )
+		            && !isNull( AssetCache::get( "js/./a.js" ) )
+		            && !isNull( AssetCache::get( "js//a.js" ) )
+		            && !isNull( AssetCache::get( "js/../js/a.js" ) );
+		        spellings = AssetCache::size();
+		        outside = isNull( AssetCache::get( "../secret.js" ) );
+		        missing = isNull( AssetCache::get( "js/missing.js" ) );
+		        fileDelete( root & "/public/js/a.js" );
+		        cached = !isNull( AssetCache::get( "js/a.js" ) );
+		        AssetCache::get( "js/b.js" );
+		        served = !isNull( AssetCache::get( "js/c.js" ) );
+		        bounded = AssetCache::size();
+		    } finally {
+		        AssetCache::configure( "production", modulePublic );
+		        directoryDelete( root, true );
+		    }
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsBoolean( Key.of( "found" ) ) ).isTrue();
+		assertThat( variables.getAsInteger( Key.of( "spellings" ) ) ).isEqualTo( 1 );
+		assertThat( variables.getAsBoolean( Key.of( "outside" ) ) ).isTrue();
+		assertThat( variables.getAsBoolean( Key.of( "missing" ) ) ).isTrue();
+		assertThat( variables.getAsBoolean( Key.of( "cached" ) ) ).isTrue();
+		assertThat( variables.getAsBoolean( Key.of( "served" ) ) ).isTrue();
+		assertThat( variables.getAsInteger( Key.of( "bounded" ) ) ).isEqualTo( 2 );
+	}
+
+}
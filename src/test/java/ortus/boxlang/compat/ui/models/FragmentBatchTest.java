@@ -0,0 +1,113 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.compat.ui.models;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.compat.ui.BaseIntegrationTest;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.IStruct;
+
+public class FragmentBatchTest extends BaseIntegrationTest {
+
+	@DisplayName( "It only accepts root-relative paths without dot segments" )
+	@Test
+	public void testAllowedPaths() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.FragmentBatch;
+		    relative = FragmentBatch::isAllowedPath( "/fragments/news.bxm?page=2" );
+		    external = FragmentBatch::isAllowedPath( "//evil.example/x.bxm" );
+		    absolute = FragmentBatch::isAllowedPath( "http://evil.example/x.bxm" );
+		    parent = FragmentBatch::isAllowedPath( "/fragments/../admin/users.bxm" );
+		    current = FragmentBatch::isAllowedPath( "/fragments/./news.bxm" );
+		    recursive = FragmentBatch::isAllowedPath( "/bxmodules/bxUICompat/public/batch.bxm" );
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsBoolean( Key.of( "relative" ) ) ).isTrue();
+		assertThat( variables.getAsBoolean( Key.of( "external" ) ) ).isFalse();
+		assertThat( variables.getAsBoolean( Key.of( "absolute" ) ) ).isFalse();
+		assertThat( variables.getAsBoolean( Key.of( "parent" ) ) ).isFalse();
+		assertThat( variables.getAsBoolean( Key.of( "current" ) ) ).isFalse();
+		assertThat( variables.getAsBoolean( Key.of( "recursive" ) ) ).isFalse();
+	}
+
+	@DisplayName( "It requests fragments from the loopback address unless a base URL is configured" )
+	@Test
+	public void testBaseURL() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.FragmentBatch;
+		    loopback = FragmentBatch::getBaseURL( 8080 );
+		    try {
+		        FragmentBatch::configure( 25, 30, "http://10.0.0.5:8500/" );
+		        configured = FragmentBatch::getBaseURL( 8080 );
+		    } finally {
+		        FragmentBatch::configure();
+		    }
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsString( Key.of( "loopback" ) ) ).isEqualTo( "http://127.0.0.1:8080" );
+		assertThat( variables.getAsString( Key.of( "configured" ) ) ).isEqualTo( "http://10.0.0.5:8500" );
+	}
+
+	@DisplayName( "It only trusts internal fragment requests carrying the batch key" )
+	@Test
+	public void testFragmentRequests() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.FragmentBatch;
+		    keyed = FragmentBatch::isFragmentRequest( FragmentBatch::getKey() );
+		    forged = FragmentBatch::isFragmentRequest( "1" );
+		    missing = FragmentBatch::isFragmentRequest( "" );
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsBoolean( Key.of( "keyed" ) ) ).isTrue();
+		assertThat( variables.getAsBoolean( Key.of( "forged" ) ) ).isFalse();
+		assertThat( variables.getAsBoolean( Key.of( "missing" ) ) ).isFalse();
+	}
+
+	@DisplayName( "It falls back for fragments that don't come from this server" )
+	@Test
+	public void testUnreachableFallback() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.FragmentBatch;
+		    results = FragmentBatch::render(
+		        [ { "id" : "a", "url" : "/fragments/news.bxm", "etag" : "" }, { "id" : "b", "url" : "/fragments/weather.bxm", "etag" : "" } ],
+		        {},
+		        "http://127.0.0.1:1"
+		    );
+		    """,
+		    context
+		);
+
+		IStruct first = ( IStruct ) variables.getAsArray( Key.of( "results" ) ).get( 0 );
+		IStruct second = ( IStruct ) variables.getAsArray( Key.of( "results" ) ).get( 1 );
+		assertThat( first.getAsString( Key.of( "id" ) ) ).isEqualTo( "a" );
+		assertThat( first.getAsBoolean( Key.of( "fallback" ) ) ).isTrue();
+		assertThat( second.getAsString( Key.of( "id" ) ) ).isEqualTo( "b" );
+		assertThat( second.getAsBoolean( Key.of( "fallback" ) ) ).isTrue();
+	}
+}
@@ -0,0 +1,96 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.compat.ui.models;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.compat.ui.BaseIntegrationTest;
+import ortus.boxlang.runtime.scopes.Key;
+
+public class FragmentETagTest extends BaseIntegrationTest {
+
+	@DisplayName( "It computes a weak ETag that changes with the content" )
+	@Test
+	public void testCompute() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.FragmentETag;
+		    etag = FragmentETag::compute( "<p>News</p>" );
+		    same = FragmentETag::compute( "<p>News</p>" ) == etag;
+		    changed = FragmentETag::compute( "<p>Weather</p>" ) != etag;
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsString( Key.of( "etag" ) ) ).matches( "W/\"[0-9a-f]+-b\"" );
+		assertThat( variables.getAsBoolean( Key.of( "same" ) ) ).isTrue();
+		assertThat( variables.getAsBoolean( Key.of( "changed" ) ) ).isTrue();
+	}
+
+	@DisplayName( "It matches If-None-Match with weak comparison, lists and the wildcard" )
+	@Test
+	public void testMatches() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.FragmentETag;
+		    etag = FragmentETag::compute( "<p>News</p>" );
+		    exact = FragmentETag::matches( etag, etag );
+		    strong = FragmentETag::matches( replace( etag, "W/", "" ), etag );
+		    mismatch = FragmentETag::matches( FragmentETag::compute( "<p>Weather</p>" ), etag );
+		    list = FragmentETag::matches( 'W/"1-1", #etag# , "2-2"', etag );
+		    listMismatch = FragmentETag::matches( 'W/"1-1", "2-2"', etag );
+		    wildcard = FragmentETag::matches( " * ", etag );
+		    empty = FragmentETag::matches( "", etag );
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsBoolean( Key.of( "exact" ) ) ).isTrue();
+		assertThat( variables.getAsBoolean( Key.of( "strong" ) ) ).isTrue();
+		assertThat( variables.getAsBoolean( Key.of( "mismatch" ) ) ).isFalse();
+		assertThat( variables.getAsBoolean( Key.of( "list" ) ) ).isTrue();
+		assertThat( variables.getAsBoolean( Key.of( "listMismatch" ) ) ).isFalse();
+		assertThat( variables.getAsBoolean( Key.of( "wildcard" ) ) ).isTrue();
+		assertThat( variables.getAsBoolean( Key.of( "empty" ) ) ).isFalse();
+	}
+
+	@DisplayName( "It only tags 200 responses with a body" )
+	@Test
+	public void testTaggable() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.FragmentETag;
+		    ok = FragmentETag::isTaggable( 200, "<p>News</p>" );
+		    emptyBody = FragmentETag::isTaggable( 200, "" );
+		    notFound = FragmentETag::isTaggable( 404, "<p>Not found</p>" );
+		    serverError = FragmentETag::isTaggable( 500, "<p>Error</p>" );
+		    redirect = FragmentETag::isTaggable( 302, "" );
+		    scripting = FragmentETag::responseStatus( getBoxContext() );
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsBoolean( Key.of( "ok" ) ) ).isTrue();
+		assertThat( variables.getAsBoolean( Key.of( "emptyBody" ) ) ).isFalse();
+		assertThat( variables.getAsBoolean( Key.of( "notFound" ) ) ).isFalse();
+		assertThat( variables.getAsBoolean( Key.of( "serverError" ) ) ).isFalse();
+		assertThat( variables.getAsBoolean( Key.of( "redirect" ) ) ).isFalse();
+		assertThat( variables.getAsInteger( Key.of( "scripting" ) ) ).isEqualTo( 200 );
+	}
+
+}
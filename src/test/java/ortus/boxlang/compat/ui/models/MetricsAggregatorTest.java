@@ -0,0 +1,137 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.compat.ui.models;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.compat.ui.BaseIntegrationTest;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.IStruct;
+
+public class MetricsAggregatorTest extends BaseIntegrationTest {
+
+	@DisplayName( "It only exposes the aggregates to requests with the configured bearer token" )
+	@Test
+	public void testAuthorization() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.MetricsAggregator;
+		    withoutToken = MetricsAggregator::isAuthorized( "Bearer " );
+		    try {
+		        MetricsAggregator::configure( 500, true, "s3cret" );
+		        valid = MetricsAggregator::isAuthorized( "Bearer s3cret" );
+		        lowercase = MetricsAggregator::isAuthorized( "bearer s3cret" );
+		        wrong = MetricsAggregator::isAuthorized( "Bearer s3cre" );
+		        basic = MetricsAggregator::isAuthorized( "Basic s3cret" );
+		        missing = MetricsAggregator::isAuthorized();
+		    } finally {
+		        MetricsAggregator::configure( 500, true );
+		    }
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsBoolean( Key.of( "withoutToken" ) ) ).isFalse();
+		assertThat( variables.getAsBoolean( Key.of( "valid" ) ) ).isTrue();
+		assertThat( variables.getAsBoolean( Key.of( "lowercase" ) ) ).isTrue();
+		assertThat( variables.getAsBoolean( Key.of( "wrong" ) ) ).isFalse();
+		assertThat( variables.getAsBoolean( Key.of( "basic" ) ) ).isFalse();
+		assertThat( variables.getAsBoolean( Key.of( "missing" ) ) ).isFalse();
+	}
+
+	@DisplayName( "It only accepts beacons sent by pages of the same site" )
+	@Test
+	public void testSameOrigin() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.MetricsAggregator;
+		    fetchSite = MetricsAggregator::isSameOrigin( { "Sec-Fetch-Site" : "same-origin", "Origin" : "https://evil.example" }, "www.example.com" );
+		    crossSite = MetricsAggregator::isSameOrigin( { "Sec-Fetch-Site" : "cross-site" }, "www.example.com" );
+		    origin = MetricsAggregator::isSameOrigin( { "Origin" : "https://www.example.com:8443" }, "www.example.com:8443" );
+		    otherOrigin = MetricsAggregator::isSameOrigin( { "Origin" : "https://evil.example" }, "www.example.com" );
+		    neither = MetricsAggregator::isSameOrigin( {}, "www.example.com" );
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsBoolean( Key.of( "fetchSite" ) ) ).isTrue();
+		assertThat( variables.getAsBoolean( Key.of( "crossSite" ) ) ).isFalse();
+		assertThat( variables.getAsBoolean( Key.of( "origin" ) ) ).isTrue();
+		assertThat( variables.getAsBoolean( Key.of( "otherOrigin" ) ) ).isFalse();
+		assertThat( variables.getAsBoolean( Key.of( "neither" ) ) ).isFalse();
+	}
+
+	@DisplayName( "It folds new pairs beyond the per-minute budget into (other)" )
+	@Test
+	public void testNewKeyBudget() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.MetricsAggregator;
+		    MetricsAggregator::reset();
+		    try {
+		        metrics = [];
+		        for( i = 1; i <= 60; i++ ){
+		            metrics.append( { "component" : "pod", "url" : "/junk/#i#", "requests" : 1 } );
+		        }
+		        MetricsAggregator::ingest( { "buckets" : [ 10 ], "metrics" : metrics } );
+		        pairs = MetricsAggregator::snapshot().metrics;
+		        other = pairs.filter( ( entry ) => entry.url == "(other)" );
+		    } finally {
+		        MetricsAggregator::reset();
+		    }
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsArray( Key.of( "pairs" ) ).size() ).isEqualTo( 51 );
+		IStruct other = ( IStruct ) variables.getAsArray( Key.of( "other" ) ).get( 0 );
+		assertThat( ( ( Number ) other.get( Key.of( "requests" ) ) ).longValue() ).isEqualTo( 10 );
+	}
+
+	@DisplayName( "It keeps fractional sums and uses the client's buckets" )
+	@Test
+	public void testSumsAndBuckets() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.MetricsAggregator;
+		    MetricsAggregator::reset();
+		    try {
+		        beacon = {
+		            "buckets" : [ 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000 ],
+		            "metrics" : [
+		                { "component" : "grid", "url" : "/orders", "requests" : 2, "latency" : { "counts" : [ 2, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0 ], "sum" : 7.5, "max" : 4 } }
+		            ]
+		        };
+		        MetricsAggregator::ingest( beacon );
+		        MetricsAggregator::ingest( beacon );
+		        latency = MetricsAggregator::snapshot().metrics[ 1 ].latency;
+		        buckets = MetricsAggregator::snapshot().buckets;
+		    } finally {
+		        MetricsAggregator::reset();
+		    }
+		    """,
+		    context
+		);
+
+		IStruct latency = variables.getAsStruct( Key.of( "latency" ) );
+		assertThat( ( ( Number ) latency.get( Key.of( "sum" ) ) ).doubleValue() ).isEqualTo( 15.0 );
+		assertThat( ( ( Number ) latency.getAsArray( Key.of( "counts" ) ).get( 0 ) ).longValue() ).isEqualTo( 4 );
+		assertThat( variables.getAsArray( Key.of( "buckets" ) ) ).hasSize( 10 );
+	}
+
+}
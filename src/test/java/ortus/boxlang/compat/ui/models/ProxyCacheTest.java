@@ -0,0 +1,223 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.compat.ui.models;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.compat.ui.BaseIntegrationTest;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.IStruct;
+
+public class ProxyCacheTest extends BaseIntegrationTest {
+
+	@DisplayName( "It produces a result again once its TTL expired" )
+	@Test
+	public void testExpiry() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.ProxyCache;
+		    ProxyCache::clear();
+		    calls = 0;
+		    producer = () => ++calls;
+		    first = ProxyCache::getOrSet( "expiry", 0.2, producer );
+		    second = ProxyCache::getOrSet( "expiry", 0.2, producer );
+		    sleep( 300 );
+		    third = ProxyCache::getOrSet( "expiry", 0.2, producer );
+		    ProxyCache::clear();
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsStruct( Key.of( "first" ) ).getAsBoolean( Key.of( "hit" ) ) ).isFalse();
+		assertThat( variables.getAsStruct( Key.of( "second" ) ).getAsBoolean( Key.of( "hit" ) ) ).isTrue();
+		assertThat( variables.getAsStruct( Key.of( "third" ) ).getAsBoolean( Key.of( "hit" ) ) ).isFalse();
+		assertThat( variables.getAsInteger( Key.of( "calls" ) ) ).isEqualTo( 2 );
+	}
+
+	@DisplayName( "It builds the key from the proxyCacheKeys arguments and the session" )
+	@Test
+	public void testKeys() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.ProxyCache;
+		    base = ProxyCache::buildKey( "lookups.Countries", "list", { "code" : "BE", "page" : 1 }, [ "code" ] );
+		    otherPage = ProxyCache::buildKey( "lookups.Countries", "list", { "code" : "BE", "page" : 2 }, [ "code" ] );
+		    otherCode = ProxyCache::buildKey( "lookups.Countries", "list", { "code" : "NL", "page" : 1 }, [ "code" ] );
+		    allArgs = ProxyCache::buildKey( "lookups.Countries", "list", { "code" : "BE", "page" : 2 } );
+		    otherSession = ProxyCache::buildKey( "lookups.Countries", "list", { "code" : "BE", "page" : 1 }, [ "code" ], "session-2" );
+		    """,
+		    context
+		);
+
+		String base = variables.getAsString( Key.of( "base" ) );
+		assertThat( variables.getAsString( Key.of( "otherPage" ) ) ).isEqualTo( base );
+		assertThat( variables.getAsString( Key.of( "otherCode" ) ) ).isNotEqualTo( base );
+		assertThat( variables.getAsString( Key.of( "allArgs" ) ) ).isNotEqualTo( base );
+		assertThat( variables.getAsString( Key.of( "otherSession" ) ) ).isNotEqualTo( base );
+	}
+
+	@DisplayName( "It evicts the least recently used results once it is full" )
+	@Test
+	public void testEviction() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.ProxyCache;
+		    ProxyCache::clear();
+		    try {
+		        ProxyCache::configure( 10 );
+		        for( i = 1; i <= 10; i++ ){
+		            ProxyCache::getOrSet( "key#i#", 60, () => i );
+		            sleep( 2 );
+		        }
+		        // The oldest entry is used again, so the second oldest is evicted first
+		        ProxyCache::getOrSet( "key1", 60, () => 0 );
+		        sleep( 2 );
+		        ProxyCache::getOrSet( "key11", 60, () => 11 );
+		        size = ProxyCache::size();
+		        recent = ProxyCache::getOrSet( "key1", 60, () => 0 ).hit;
+		        evicted = !ProxyCache::getOrSet( "key2", 60, () => 0 ).hit;
+		    } finally {
+		        ProxyCache::configure( 1000 );
+		        ProxyCache::clear();
+		    }
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsInteger( Key.of( "size" ) ) ).isAtMost( 10 );
+		assertThat( variables.getAsBoolean( Key.of( "recent" ) ) ).isTrue();
+		assertThat( variables.getAsBoolean( Key.of( "evicted" ) ) ).isTrue();
+	}
+
+	@DisplayName( "It answers the dispatcher with a miss, then a hit, and never memoizes uncached methods" )
+	@Test
+	public void testDispatch() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.ProxyCache;
+		    ProxyCache::clear();
+		    calls = 0;
+		    invoker = () => ++calls;
+		    cachedMethod = { "ttl" : 60, "keys" : [], "shared" : false };
+		    sharedMethod = { "ttl" : 60, "keys" : [], "shared" : true };
+		    plainMethod = { "ttl" : 0, "keys" : [], "shared" : false };
+
+		    miss = ProxyCache::call( "lookups.Countries", "list", {}, cachedMethod, invoker, "session-1" );
+		    hit = ProxyCache::call( "lookups.Countries", "list", {}, cachedMethod, invoker, "session-1" );
+		    otherUser = ProxyCache::call( "lookups.Countries", "list", {}, cachedMethod, invoker, "session-2" );
+		    noSession = ProxyCache::call( "lookups.Countries", "list", {}, cachedMethod, invoker );
+		    sharedMiss = ProxyCache::call( "lookups.Countries", "all", {}, sharedMethod, invoker, "session-1" );
+		    sharedHit = ProxyCache::call( "lookups.Countries", "all", {}, sharedMethod, invoker, "session-2" );
+		    plain = ProxyCache::call( "lookups.Countries", "live", {}, plainMethod, invoker, "session-1" );
+		    ProxyCache::clear();
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsStruct( Key.of( "miss" ) ).getAsString( Key.of( "status" ) ) ).isEqualTo( "MISS" );
+		assertThat( variables.getAsStruct( Key.of( "miss" ) ).getAsString( Key.of( "cacheControl" ) ) ).isEqualTo( "private, max-age=60" );
+		assertThat( variables.getAsStruct( Key.of( "hit" ) ).getAsString( Key.of( "status" ) ) ).isEqualTo( "HIT" );
+		assertThat( variables.getAsStruct( Key.of( "hit" ) ).get( Key.of( "value" ) ).toString() ).isEqualTo( "1" );
+		assertThat( variables.getAsStruct( Key.of( "otherUser" ) ).getAsString( Key.of( "status" ) ) ).isEqualTo( "MISS" );
+		assertThat( variables.getAsStruct( Key.of( "noSession" ) ).getAsString( Key.of( "status" ) ) ).isEmpty();
+		assertThat( variables.getAsStruct( Key.of( "sharedMiss" ) ).getAsString( Key.of( "status" ) ) ).isEqualTo( "MISS" );
+		assertThat( variables.getAsStruct( Key.of( "sharedHit" ) ).getAsString( Key.of( "status" ) ) ).isEqualTo( "HIT" );
+		assertThat( variables.getAsStruct( Key.of( "plain" ) ).getAsString( Key.of( "status" ) ) ).isEmpty();
+		assertThat( variables.getAsStruct( Key.of( "plain" ) ).getAsString( Key.of( "cacheControl" ) ) ).isEqualTo( "no-store" );
+		// miss, otherUser, noSession, sharedMiss and plain invoked the method
+		assertThat( variables.getAsInteger( Key.of( "calls" ) ) ).isEqualTo( 5 );
+	}
+
+	@DisplayName( "It keeps a bounded number of resolved methods and never keeps misses" )
+	@Test
+	public void testMethodInfo() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.ProxyCache;
+		    try {
+		        ProxyCache::configure( 1000, false, 2 );
+		        found = ProxyCache::getMethodInfo( "bxModules.bxUICompat.models.FragmentETag", "compute" ).found;
+		        missing = !ProxyCache::getMethodInfo( "bxModules.bxUICompat.models.FragmentETag", "unknown" ).found;
+		        afterMiss = ProxyCache::methodCount();
+		        ProxyCache::getMethodInfo( "bxModules.bxUICompat.models.FragmentETag", "matches" );
+		        ProxyCache::getMethodInfo( "bxModules.bxUICompat.models.AssetCache", "size" );
+		        bounded = ProxyCache::methodCount();
+		        ProxyCache::configure( 1000, true );
+		        developmentFound = ProxyCache::getMethodInfo( "bxModules.bxUICompat.models.FragmentETag", "compute" ).found;
+		        development = ProxyCache::methodCount();
+		    } finally {
+		        ProxyCache::configure( 1000 );
+		    }
+		    """,
+		    context
+		);
+
+		assertThat( variables.getAsBoolean( Key.of( "found" ) ) ).isTrue();
+		assertThat( variables.getAsBoolean( Key.of( "missing" ) ) ).isTrue();
+		assertThat( variables.getAsInteger( Key.of( "afterMiss" ) ) ).isEqualTo( 1 );
+		assertThat( variables.getAsInteger( Key.of( "bounded" ) ) ).isAtMost( 2 );
+		assertThat( variables.getAsBoolean( Key.of( "developmentFound" ) ) ).isTrue();
+		assertThat( variables.getAsInteger( Key.of( "development" ) ) ).isEqualTo( 0 );
+	}
+
+	@DisplayName( "It binds the typed arguments of a JSON dispatcher request by name" )
+	@Test
+	public void testJSONRequest() {
+		runtime.executeSource(
+		    """
+		    import bxModules.bxUICompat.models.ProxyCache;
+		    function list( required numeric page, required boolean active, struct filter = {}, array tags = [] ){
+		        return arguments;
+		    }
+		    body = serializeJSON( {
+		        "cfc"    : "lookups.Countries",
+		        "method" : "list",
+		        "args"   : { "page" : 2, "active" : false, "filter" : { "region" : "EU" }, "tags" : [ "a", "b" ] }
+		    } );
+		    parsed = ProxyCache::readRequest( { "cfc" : "ignored" }, "application/json; charset=utf-8", charsetDecode( body, "utf-8" ) );
+		    bound = list( argumentCollection = parsed.args );
+		    formRequest = ProxyCache::readRequest( { "cfc" : "lookups.Countries", "method" : "list", "page" : "2", "fieldnames" : "cfc,method,page" } );
+		    try {
+		        ProxyCache::readRequest( {}, "application/json", "[ 1, 2 ]" );
+		        rejected = false;
+		    } catch( "boxlang.compat.ui.InvalidRequestException" e ){
+		        rejected = true;
+		    }
+		    """,
+		    context
+		);
+
+		IStruct parsed = variables.getAsStruct( Key.of( "parsed" ) );
+		assertThat( parsed.getAsString( Key.of( "cfc" ) ) ).isEqualTo( "lookups.Countries" );
+		assertThat( parsed.getAsString( Key.of( "method" ) ) ).isEqualTo( "list" );
+		assertThat( parsed.getAsString( Key.of( "returnFormat" ) ) ).isEqualTo( "json" );
+
+		IStruct bound = variables.getAsStruct( Key.of( "bound" ) );
+		assertThat( bound.get( Key.of( "page" ) ) ).isInstanceOf( Number.class );
+		assertThat( ( ( Number ) bound.get( Key.of( "page" ) ) ).intValue() ).isEqualTo( 2 );
+		assertThat( bound.get( Key.of( "active" ) ) ).isEqualTo( false );
+		assertThat( bound.getAsStruct( Key.of( "filter" ) ).getAsString( Key.of( "region" ) ) ).isEqualTo( "EU" );
+		assertThat( bound.getAsArray( Key.of( "tags" ) ) ).containsExactly( "a", "b" ).inOrder();
+
+		IStruct formArgs = variables.getAsStruct( Key.of( "formRequest" ) ).getAsStruct( Key.of( "args" ) );
+		assertThat( formArgs.getAsString( Key.of( "page" ) ) ).isEqualTo( "2" );
+		assertThat( formArgs.size() ).isEqualTo( 1 );
+		assertThat( variables.getAsBoolean( Key.of( "rejected" ) ) ).isTrue();
+	}
+
+}
@@ -0,0 +1,63 @@
+const { test } = require("node:test");
+const assert = require("node:assert");
+const { load, response } = require("./harness.js");
+
+test("it renders background GETs of the same tick in one batch and records each fragment", async () => {
+	const { BoxLangAjax, fetchCalls, respond } = load();
+	respond(async () =>
+		response(
+			JSON.stringify({
+				fragments: [
+					{ id: "0", status: 200, contentType: "text/html", body: "<p>news</p>", etag: "", cacheControl: "" },
+					{ id: "1", status: 200, contentType: "text/html", body: "<p>weather</p>", etag: "", cacheControl: "" },
+				],
+			}),
+			{ headers: { "Content-Type": "application/json" } }
+		)
+	);
+
+	const results = await Promise.all([
+		BoxLangAjax.utils.fetchContent("/fragments/news.bxm", { priority: "background", component: "pod" }),
+		BoxLangAjax.utils.fetchContent("/fragments/weather.bxm", { priority: "background", component: "pod" }),
+	]);
+
+	assert.deepStrictEqual(results, ["<p>news</p>", "<p>weather</p>"]);
+	assert.strictEqual(fetchCalls.length, 1);
+	assert.strictEqual(fetchCalls[0].url, BoxLangAjax.config.batchUrl);
+
+	const news = BoxLangAjax.metrics.entries.get("pod /fragments/news.bxm");
+	const weather = BoxLangAjax.metrics.entries.get("pod /fragments/weather.bxm");
+	assert.strictEqual(news.requests, 1);
+	assert.strictEqual(news.bytes, "<p>news</p>".length);
+	assert.strictEqual(weather.requests, 1);
+	assert.strictEqual(weather.errors, 0);
+});
+
+test("it requests fragments the batch endpoint didn't relay on their own", async () => {
+	const { BoxLangAjax, fetchCalls, respond } = load();
+	respond(async (url) =>
+		url === BoxLangAjax.config.batchUrl
+			? response(
+					JSON.stringify({
+						fragments: [
+							{ id: "0", status: 200, contentType: "text/html", body: "batched", etag: "", cacheControl: "" },
+							{ id: "1", status: 0, fallback: true, body: "" },
+						],
+					}),
+					{ headers: { "Content-Type": "application/json" } }
+			  )
+			: response("single")
+	);
+
+	const results = await Promise.all([
+		BoxLangAjax.utils.fetchContent("/a", { priority: "background" }),
+		BoxLangAjax.utils.fetchContent("/b", { priority: "background" }),
+	]);
+
+	assert.deepStrictEqual(results, ["batched", "single"]);
+	assert.deepStrictEqual(
+		fetchCalls.map((call) => call.url),
+		[BoxLangAjax.config.batchUrl, "/b"]
+	);
+	assert.strictEqual(BoxLangAjax.metrics.entries.get("ajax /b").requests, 1);
+});
@@ -0,0 +1,106 @@
+const { test } = require("node:test");
+const assert = require("node:assert");
+const { load, response } = require("./harness.js");
+
+const settings = { circuitBreakerThreshold: 2, circuitBreakerCooldown: 20 };
+const wait = (ms) => new Promise((resolve) => setTimeout(resolve, ms));
+
+test("it opens after consecutive failures, per endpoint", () => {
+	const { BoxLangAjax } = load({ config: settings });
+	const breaker = BoxLangAjax.circuitBreaker;
+
+	breaker.failure("/api/data?page=1");
+	breaker.allow("/api/data");
+	breaker.failure("/api/data?page=2");
+
+	// The query string is not part of the endpoint
+	assert.throws(() => breaker.allow("/api/data?page=3"), { name: "CircuitOpenError" });
+	assert.doesNotThrow(() => breaker.allow("/api/other"));
+});
+
+test("it lets a single probe through after the cooldown and closes when it succeeds", async () => {
+	const { BoxLangAjax } = load({ config: settings });
+	const breaker = BoxLangAjax.circuitBreaker;
+	breaker.failure("/api/data");
+	breaker.failure("/api/data");
+
+	await wait(30);
+	assert.doesNotThrow(() => breaker.allow("/api/data"));
+	assert.throws(() => breaker.allow("/api/data"), { name: "CircuitOpenError" });
+
+	breaker.success("/api/data");
+	assert.doesNotThrow(() => breaker.allow("/api/data"));
+	assert.doesNotThrow(() => breaker.allow("/api/data"));
+});
+
+test("it opens again when the probe fails", async () => {
+	const { BoxLangAjax } = load({ config: settings });
+	const breaker = BoxLangAjax.circuitBreaker;
+	breaker.failure("/api/data");
+	breaker.failure("/api/data");
+
+	await wait(30);
+	breaker.allow("/api/data");
+	breaker.failure("/api/data");
+	assert.throws(() => breaker.allow("/api/data"), { name: "CircuitOpenError" });
+});
+
+test("it stops fetchContent from sending requests while open", async () => {
+	const { BoxLangAjax, fetchCalls, respond } = load({
+		config: Object.assign({ retryAttempts: 1 }, settings),
+	});
+	respond(() => response("", { status: 503, statusText: "Service Unavailable" }));
+
+	await assert.rejects(BoxLangAjax.utils.fetchContent("/api/data", { batch: false }), { status: 503 });
+	await assert.rejects(BoxLangAjax.utils.fetchContent("/api/data", { batch: false }), { status: 503 });
+	await assert.rejects(BoxLangAjax.utils.fetchContent("/api/data", { batch: false }), { name: "CircuitOpenError" });
+	assert.strictEqual(fetchCalls.length, 2);
+});
+
+test("it retries transient failures of idempotent requests only", async () => {
+	const { BoxLangAjax, fetchCalls, respond } = load({ config: { retryAttempts: 3, retryDelay: 1 } });
+	let failures = 1;
+	respond(() => (failures-- > 0 ? response("", { status: 503, statusText: "Service Unavailable" }) : response("ok")));
+
+	assert.strictEqual(await BoxLangAjax.utils.fetchContent("/flaky", { batch: false }), "ok");
+	assert.strictEqual(fetchCalls.length, 2);
+
+	// 503 means the server turned the request away, so even a POST is sent again
+	failures = 1;
+	assert.strictEqual(await BoxLangAjax.utils.fetchContent("/submit", { method: "POST", body: "a=1" }), "ok");
+	assert.strictEqual(fetchCalls.length, 4);
+
+	respond(() => response("", { status: 500, statusText: "Internal Server Error" }));
+	await assert.rejects(BoxLangAjax.utils.fetchContent("/submit", { method: "POST", body: "a=1" }), { status: 500 });
+	assert.strictEqual(fetchCalls.length, 5);
+});
+
+test("it doesn't retry client errors or count them against the endpoint", async () => {
+	const { BoxLangAjax, fetchCalls, respond } = load({ config: Object.assign({ retryAttempts: 3 }, settings) });
+	respond(() => response("", { status: 404, statusText: "Not Found" }));
+
+	for (let i = 0; i < 3; i++) {
+		await assert.rejects(BoxLangAjax.utils.fetchContent("/missing", { batch: false }), { status: 404 });
+	}
+	assert.strictEqual(fetchCalls.length, 3);
+	assert.doesNotThrow(() => BoxLangAjax.circuitBreaker.allow("/missing"));
+});
+
+test("it waits as long as Retry-After asks, and gives up when that is too long", () => {
+	const { BoxLangAjax } = load({ config: { retryDelay: 100, retryMaxDelay: 5000 } });
+	const utils = BoxLangAjax.utils;
+
+	assert.strictEqual(utils.parseRetryAfter("2"), 2000);
+	assert.strictEqual(utils.parseRetryAfter(""), null);
+	assert.strictEqual(utils.retryDelay(1, { retryAfter: 2000 }), 2000);
+	assert.strictEqual(utils.retryDelay(1, { retryAfter: 60000 }), null);
+
+	// Without Retry-After the delay is random, up to the exponential ceiling
+	for (let i = 0; i < 20; i++) {
+		assert.ok(utils.retryDelay(3, {}) <= 400);
+	}
+	assert.strictEqual(utils.isRetryableError({ name: "TimeoutError" }), true);
+	assert.strictEqual(utils.isRetryableError({ name: "AbortError" }), false);
+	assert.strictEqual(utils.isRetryableError({ name: "Error", status: 502 }), true);
+	assert.strictEqual(utils.isRetryableError({ name: "Error", status: 400 }), false);
+});
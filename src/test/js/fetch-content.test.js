@@ -0,0 +1,35 @@
+const { test } = require("node:test");
+const assert = require("node:assert");
+const { load, createElement } = require("./harness.js");
+
+test("it passes only RequestInit members to fetch() and maps the priority to a hint", async () => {
+	const { BoxLangAjax, fetchCalls } = load();
+
+	await BoxLangAjax.utils.fetchContent("/fragment", {
+		priority: "prefetch",
+		container: createElement("bx-pod"),
+		timeout: 5000,
+		credentials: "include",
+		batch: false,
+		etag: true,
+		swr: true,
+		onResponse: () => {},
+	});
+
+	const init = fetchCalls[0].init;
+	assert.deepStrictEqual(Object.keys(init).sort(), ["credentials", "headers", "method", "priority", "signal"]);
+	assert.strictEqual(init.method, "GET");
+	assert.strictEqual(init.credentials, "include");
+	assert.strictEqual(init.priority, "low");
+	assert.strictEqual(init.headers["X-BX-ETag"], "1");
+});
+
+test("it passes the body of a POST and gives no hint for an unknown priority", async () => {
+	const { BoxLangAjax, fetchCalls } = load();
+
+	await BoxLangAjax.utils.fetchContent("/save", { method: "POST", body: "a=1", priority: "urgent" });
+
+	const init = fetchCalls[0].init;
+	assert.strictEqual(init.body, "a=1");
+	assert.strictEqual("priority" in init, false);
+});
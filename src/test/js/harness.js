@@ -0,0 +1,210 @@
+/**
+ * Loads ajax-core.js into an isolated sandbox with the small part of the browser API it needs,
+ * so its scheduling, caching and fetch logic can be tested with the Node.js test runner:
+ *
+ *   node --test src/test/js/
+ *
+ * Every call to load() gets a fresh BoxLangAjax. fetch() is answered by a responder that the
+ * test can replace, and every call is recorded with its URL and RequestInit.
+ */
+const fs = require("fs");
+const path = require("path");
+const vm = require("vm");
+
+const scriptsDir = path.resolve(__dirname, "../../main/bx/public/js");
+
+/**
+ * A minimal element: attributes, dataset, listeners, children and selector matching by class
+ */
+function createElement(className = "", children = []) {
+	const element = {
+		className: className,
+		children: children,
+		dataset: {},
+		isConnected: true,
+		nodeType: 1,
+		listeners: {},
+		hovered: false,
+		addEventListener(type, listener, options = {}) {
+			(this.listeners[type] = this.listeners[type] || []).push({
+				listener: listener,
+				once: options.once === true,
+			});
+		},
+		removeEventListener(type, listener) {
+			this.listeners[type] = (this.listeners[type] || []).filter(
+				(entry) => entry.listener !== listener
+			);
+		},
+		dispatchEvent(event) {
+			event.target = event.target || this;
+			(this.listeners[event.type] || []).slice().forEach((entry) => {
+				if (entry.once) {
+					this.removeEventListener(event.type, entry.listener);
+				}
+				entry.listener.call(this, event);
+			});
+			return !event.defaultPrevented;
+		},
+		matches(selector) {
+			if (selector === ":hover") {
+				return this.hovered;
+			}
+			return selector
+				.split(",")
+				.some((part) => part.trim() === "." + this.className);
+		},
+		querySelectorAll(selector) {
+			const found = [];
+			const walk = (node) =>
+				node.children.forEach((child) => {
+					if (child.matches(selector)) {
+						found.push(child);
+					}
+					walk(child);
+				});
+			walk(this);
+			return found;
+		},
+		querySelector(selector) {
+			return this.querySelectorAll(selector)[0] || null;
+		},
+	};
+	return element;
+}
+
+/**
+ * A fetch() Response with a text body, streamed in the given pieces when init.chunks is set
+ */
+function response(body = "", init = {}) {
+	const headers = new Map(
+		Object.entries(init.headers || {}).map(([name, value]) => [
+			name.toLowerCase(),
+			value,
+		])
+	);
+	const status = init.status || 200;
+	return {
+		ok: status >= 200 && status < 300,
+		status: status,
+		statusText: init.statusText || "OK",
+		headers: { get: (name) => headers.get(name.toLowerCase()) || null },
+		body: init.chunks
+			? new ReadableStream({
+					start(controller) {
+						init.chunks.forEach((chunk) =>
+							controller.enqueue(
+								typeof chunk === "string" ? new TextEncoder().encode(chunk) : chunk
+							)
+						);
+						controller.close();
+					},
+			  })
+			: null,
+		text: async () => body,
+		json: async () => JSON.parse(body),
+	};
+}
+
+/**
+ * Load ajax-core.js into a fresh sandbox
+ *
+ * @param options.children Elements of the document
+ * @param options.config Overrides of BoxLangAjax.config applied before the tests run
+ * @param options.globals Additional browser globals, e.g. an IntersectionObserver
+ */
+function load(options = {}) {
+	const document = createElement("document", options.children || []);
+	Object.assign(document, {
+		readyState: "complete",
+		visibilityState: "visible",
+		documentElement: createElement("html"),
+		head: {
+			appended: [],
+			appendChild(script) {
+				this.appended.push(script);
+			},
+		},
+		createElement: (tag) => ({ tagName: tag.toUpperCase() }),
+		contains: () => true,
+	});
+
+	const fetchCalls = [];
+	const errors = [];
+	const sandbox = {
+		document: document,
+		location: {
+			href: "http://localhost/page",
+			origin: "http://localhost",
+			pathname: "/page",
+		},
+		navigator: {},
+		console: {
+			log() {},
+			warn() {},
+			error: (...args) => errors.push(args.join(" ")),
+		},
+		// Timers never keep the test process alive (e.g. the metrics flush interval)
+		setTimeout,
+		clearTimeout,
+		setInterval: (callback, delay, ...args) => setInterval(callback, delay, ...args).unref(),
+		clearInterval,
+		queueMicrotask,
+		performance,
+		AbortController,
+		URL,
+		URLSearchParams,
+		TextDecoder,
+		CustomEvent: class {
+			constructor(type, init = {}) {
+				this.type = type;
+				this.detail = init.detail;
+			}
+		},
+		MouseEvent: class {
+			constructor(type, init = {}) {
+				this.type = type;
+				Object.assign(this, init);
+			}
+		},
+		MutationObserver: class {
+			observe() {}
+			disconnect() {}
+		},
+		fetch: async (url, init) => {
+			fetchCalls.push({ url: url, init: init });
+			return sandbox.responder(url, init);
+		},
+		responder: () => response(""),
+	};
+	Object.assign(sandbox, options.globals || {});
+	sandbox.window = sandbox;
+	sandbox.addEventListener = () => {};
+	vm.createContext(sandbox);
+
+	const source = fs.readFileSync(path.join(scriptsDir, "ajax-core.js"), "utf8");
+	vm.runInContext(source, sandbox, { filename: "ajax-core.js" });
+	Object.assign(sandbox.BoxLangAjax.config, options.config || {});
+
+	return {
+		window: sandbox,
+		BoxLangAjax: sandbox.BoxLangAjax,
+		document: document,
+		fetchCalls: fetchCalls,
+		errors: errors,
+		respond(responder) {
+			sandbox.responder = responder;
+		},
+	};
+}
+
+/**
+ * A promise with its resolve function, to hold a task until the test releases it
+ */
+function deferred() {
+	let resolve;
+	const promise = new Promise((done) => (resolve = done));
+	return { promise: promise, resolve: resolve };
+}
+
+module.exports = { load, createElement, response, deferred };
@@ -0,0 +1,55 @@
+const { test } = require("node:test");
+const assert = require("node:assert");
+const { load, createElement, response, deferred } = require("./harness.js");
+
+test("it shares an identical in-flight GET, unless the callers cancel or receive it separately", async () => {
+	const { BoxLangAjax, fetchCalls } = load();
+	const fetchContent = BoxLangAjax.utils.fetchContent;
+
+	await Promise.all([fetchContent("/shared"), fetchContent("/shared")]);
+	assert.strictEqual(fetchCalls.length, 1);
+
+	await Promise.all([fetchContent("/signal"), fetchContent("/signal", { signal: new AbortController().signal })]);
+	assert.strictEqual(fetchCalls.length, 3);
+
+	await Promise.all([fetchContent("/chunks"), fetchContent("/chunks", { onChunk: () => {} })]);
+	assert.strictEqual(fetchCalls.length, 5);
+
+	const first = createElement("bx-pod");
+	const second = createElement("bx-pod");
+	await Promise.all([fetchContent("/containers", { container: first }), fetchContent("/containers", { container: second })]);
+	assert.strictEqual(fetchCalls.length, 7);
+});
+
+test("it sends a new request once the shared one settled", async () => {
+	const { BoxLangAjax, fetchCalls } = load();
+
+	await BoxLangAjax.utils.fetchContent("/again");
+	await BoxLangAjax.utils.fetchContent("/again");
+	assert.strictEqual(fetchCalls.length, 2);
+	assert.strictEqual(BoxLangAjax.inflight.size, 0);
+});
+
+test("it lets a caller cancel its own request without cancelling the others", async () => {
+	const { BoxLangAjax, respond } = load({ config: { retryAttempts: 1 } });
+	const held = deferred();
+	// Like fetch(), reject right away when the signal is already aborted
+	respond(async (url, init) => {
+		if (init.signal.aborted) {
+			const error = new Error("aborted");
+			error.name = "AbortError";
+			throw error;
+		}
+		await held.promise;
+		return response("content");
+	});
+
+	const controller = new AbortController();
+	const shared = BoxLangAjax.utils.fetchContent("/slow");
+	const own = BoxLangAjax.utils.fetchContent("/slow", { signal: controller.signal });
+	controller.abort();
+
+	await assert.rejects(own, { name: "AbortError" });
+	held.resolve();
+	assert.strictEqual(await shared, "content");
+});
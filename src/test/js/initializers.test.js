@@ -0,0 +1,91 @@
+const { test } = require("node:test");
+const assert = require("node:assert");
+const { load, createElement } = require("./harness.js");
+
+/**
+ * A MutationObserver whose mutations the test reports
+ */
+class FakeMutationObserver {
+	constructor(callback) {
+		this.callback = callback;
+		FakeMutationObserver.last = this;
+	}
+	observe(target, options) {
+		this.target = target;
+		this.options = options;
+	}
+	disconnect() {}
+	insert(...nodes) {
+		this.callback([{ addedNodes: nodes }]);
+	}
+}
+
+function setup(children = []) {
+	return load({ children: children, globals: { MutationObserver: FakeMutationObserver } });
+}
+
+test("it initializes the matching elements already in the page when registered", () => {
+	const existing = createElement("bx-widget");
+	const { BoxLangAjax, document } = setup([createElement("bx-panel", [existing])]);
+	const initialized = [];
+
+	BoxLangAjax.utils.registerInitializer(".bx-widget", (element) => initialized.push(element));
+	assert.deepStrictEqual(initialized, [existing]);
+
+	// Scanning the page again is harmless
+	BoxLangAjax.utils.initComponents(document);
+	assert.deepStrictEqual(initialized, [existing]);
+});
+
+test("it initializes inserted subtrees once the DOM is ready, each element only once", () => {
+	const { BoxLangAjax, document } = setup();
+	const initialized = [];
+	BoxLangAjax.utils.registerInitializer(".bx-widget", (element) => initialized.push(element));
+
+	const observer = FakeMutationObserver.last;
+	assert.strictEqual(observer.target, document.documentElement);
+	assert.deepStrictEqual({ ...observer.options }, { childList: true, subtree: true });
+
+	// A fragment whose root is a component itself, and one with nested components
+	const root = createElement("bx-widget");
+	const nested = createElement("bx-widget");
+	const fragment = createElement("bx-panel", [nested, createElement("bx-other")]);
+	observer.insert(root, fragment);
+	assert.deepStrictEqual(initialized, [root, nested]);
+
+	// Moving a fragment around or reporting it again initializes nothing twice
+	observer.insert(fragment, nested);
+	BoxLangAjax.utils.initComponents(document);
+	assert.deepStrictEqual(initialized, [root, nested]);
+});
+
+test("it skips text nodes and nodes removed again in the same batch", () => {
+	const { BoxLangAjax } = setup();
+	const initialized = [];
+	BoxLangAjax.utils.registerInitializer(".bx-widget", (element) => initialized.push(element));
+
+	const removed = createElement("bx-widget");
+	removed.isConnected = false;
+	FakeMutationObserver.last.insert({ nodeType: 3, textContent: "text" }, removed);
+
+	assert.deepStrictEqual(initialized, []);
+});
+
+test("it runs every initializer for its own selector and reports the ones that fail", () => {
+	const { BoxLangAjax, errors } = setup();
+	const utils = BoxLangAjax.utils;
+	const calls = [];
+	utils.registerInitializer(".bx-broken", () => {
+		throw new Error("broken");
+	});
+	utils.registerInitializer(".bx-widget", (element) => calls.push("widget:" + element.className));
+	utils.registerInitializer(".bx-panel", (element) => calls.push("panel:" + element.className));
+
+	FakeMutationObserver.last.insert(
+		createElement("bx-panel", [createElement("bx-broken"), createElement("bx-widget")])
+	);
+
+	assert.deepStrictEqual(calls, ["widget:bx-widget", "panel:bx-panel"]);
+	assert.strictEqual(errors.length, 1);
+	assert.match(errors[0], /Failed to initialize \.bx-broken/);
+});
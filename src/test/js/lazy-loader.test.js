@@ -0,0 +1,93 @@
+const { test } = require("node:test");
+const assert = require("node:assert");
+const { load, createElement } = require("./harness.js");
+
+class TestEvent {
+	constructor(type, init = {}) {
+		this.type = type;
+		this.key = init.key;
+		this.defaultPrevented = false;
+	}
+	preventDefault() {
+		this.defaultPrevented = true;
+	}
+	stopImmediatePropagation() {}
+}
+
+const observers = [];
+const globals = {
+	IntersectionObserver: class {
+		constructor(callback, options) {
+			this.callback = callback;
+			this.options = options;
+			observers.push(this);
+		}
+		observe() {}
+		disconnect() {}
+	},
+};
+
+const settle = () => new Promise((resolve) => setTimeout(resolve, 0));
+
+/**
+ * A page with one pod whose script is registered lazily
+ */
+function lazyPod() {
+	const pod = createElement("bx-pod");
+	const page = load({ children: [pod], globals: globals });
+	page.BoxLangAjax.lazyLoader.register("pod", "/js/pod.js");
+	return Object.assign(page, { pod: pod, scripts: page.document.head.appended });
+}
+
+test("it loads a component script once one of its elements comes into view", () => {
+	const { BoxLangAjax, scripts } = lazyPod();
+	const observer = observers[observers.length - 1];
+	assert.strictEqual(observer.options.rootMargin, BoxLangAjax.config.lazyRootMargin);
+
+	observer.callback([{ isIntersecting: false }]);
+	assert.strictEqual(scripts.length, 0);
+	observer.callback([{ isIntersecting: true }]);
+	observer.callback([{ isIntersecting: true }]);
+	assert.deepStrictEqual(scripts.map((script) => script.src), ["/js/pod.js"]);
+});
+
+test("it replays clicks and activation keys once the script ran", async () => {
+	const { pod, scripts } = lazyPod();
+	const click = new TestEvent("click");
+	const enter = new TestEvent("keydown", { key: "Enter" });
+	const tab = new TestEvent("keydown", { key: "Tab" });
+
+	pod.dispatchEvent(click);
+	pod.dispatchEvent(enter);
+	pod.dispatchEvent(tab);
+	assert.strictEqual(scripts.length, 1);
+	assert.strictEqual(click.defaultPrevented, true);
+	assert.strictEqual(enter.defaultPrevented, true);
+	assert.strictEqual(tab.defaultPrevented, false);
+
+	// The script wires up the pod when it runs
+	const received = [];
+	pod.addEventListener("click", (event) => received.push(event.type));
+	pod.addEventListener("keydown", (event) => received.push(event.key));
+	scripts[0].onload();
+	await settle();
+
+	assert.deepStrictEqual(received, ["click", "Enter"]);
+
+	// Later clicks go straight to the component
+	pod.dispatchEvent(new TestEvent("click"));
+	assert.deepStrictEqual(received, ["click", "Enter", "click"]);
+});
+
+test("it replays held clicks when the script failed to load", async () => {
+	const { pod, scripts, errors } = lazyPod();
+	const received = [];
+	pod.dispatchEvent(new TestEvent("click"));
+	pod.addEventListener("click", (event) => received.push(event.type));
+
+	scripts[0].onerror();
+	await settle();
+
+	assert.deepStrictEqual(received, ["click"]);
+	assert.match(errors[0], /failed to load \/js\/pod\.js/);
+});
@@ -0,0 +1,113 @@
+const { test } = require("node:test");
+const assert = require("node:assert");
+const { load } = require("./harness.js");
+
+/**
+ * A sandbox whose navigator.sendBeacon records the beacons it is given
+ */
+function setup(config = {}, accept = true) {
+	const beacons = [];
+	const loaded = load({
+		config: Object.assign({ metricsUrl: "/metrics", metricsInterval: 20 }, config),
+		globals: {
+			Blob,
+			navigator: {
+				sendBeacon: (url, blob) => {
+					beacons.push({ url: url, blob: blob });
+					return accept;
+				},
+			},
+		},
+	});
+	loaded.beacons = beacons;
+	loaded.payload = async (index) => JSON.parse(await beacons[index].blob.text());
+	return loaded;
+}
+
+const wait = (ms) => new Promise((resolve) => setTimeout(resolve, ms));
+
+test("it batches the samples of an interval into one beacon per component and path", async () => {
+	const { BoxLangAjax, beacons, payload } = setup();
+	const metrics = BoxLangAjax.metrics;
+
+	metrics.record("pod", "/fragments/news.bxm?page=1", { latency: 40, bytes: 100 });
+	metrics.record("pod", "/fragments/news.bxm?page=2", { latency: 300, bytes: 50, retries: 1 });
+	metrics.record("pod", "/fragments/news.bxm", { cached: true });
+	metrics.record("grid", "http://localhost/grid.bxm", { latency: 12000, error: true });
+	assert.strictEqual(beacons.length, 0);
+
+	await wait(50);
+	assert.strictEqual(beacons.length, 1);
+	assert.strictEqual(beacons[0].url, "/metrics");
+	assert.strictEqual(beacons[0].blob.type, "application/json");
+
+	const sent = await payload(0);
+	assert.strictEqual(sent.page, "/page");
+	assert.deepStrictEqual(sent.buckets, [...metrics.buckets]);
+
+	const [news, grid] = sent.metrics;
+	assert.strictEqual(news.url, "/fragments/news.bxm");
+	assert.strictEqual(news.requests, 2);
+	assert.strictEqual(news.cacheHits, 1);
+	assert.strictEqual(news.cacheHitRatio, 1 / 3);
+	assert.strictEqual(news.retries, 1);
+	assert.strictEqual(news.bytes, 150);
+	assert.deepStrictEqual(news.latency.counts, [0, 0, 1, 0, 0, 1, 0, 0, 0, 0, 0]);
+	assert.strictEqual(news.latency.sum, 340);
+	assert.strictEqual(news.latency.max, 300);
+	assert.strictEqual(grid.component, "grid");
+	assert.strictEqual(grid.errors, 1);
+	// Slower than the last bound
+	assert.strictEqual(grid.latency.counts[metrics.buckets.length], 1);
+
+	// Sent aggregates are reset and nothing is sent while there is nothing new
+	assert.strictEqual(metrics.entries.size, 0);
+	await wait(50);
+	assert.strictEqual(beacons.length, 1);
+});
+
+test("it sends what it has when the page is hidden", async () => {
+	const { BoxLangAjax, document, beacons } = setup({ metricsInterval: 60000 });
+
+	BoxLangAjax.metrics.record("div", "/a", { latency: 5 });
+	document.visibilityState = "hidden";
+	document.dispatchEvent({ type: "visibilitychange" });
+
+	assert.strictEqual(beacons.length, 1);
+	assert.strictEqual(BoxLangAjax.metrics.timer, null);
+});
+
+test("it keeps the aggregates when the beacon is refused", () => {
+	const { BoxLangAjax, beacons } = setup({}, false);
+
+	BoxLangAjax.metrics.record("div", "/a", { latency: 5 });
+	assert.strictEqual(BoxLangAjax.metrics.flush(), false);
+	assert.strictEqual(beacons.length, 1);
+	assert.strictEqual(BoxLangAjax.metrics.entries.get("div /a").requests, 1);
+	BoxLangAjax.metrics.reset();
+});
+
+test("it folds new paths into (other) once it tracks maxKeys of them", () => {
+	const { BoxLangAjax } = setup({ metricsUrl: "" });
+	const metrics = BoxLangAjax.metrics;
+	metrics.maxKeys = 2;
+
+	metrics.record("div", "/a", { latency: 5 });
+	metrics.record("div", "/b", { latency: 5 });
+	metrics.record("div", "/c", { latency: 5 });
+	metrics.record("pod", "/d", { latency: 5 });
+	metrics.record("div", "/a", { latency: 5 });
+
+	assert.deepStrictEqual([...metrics.entries.keys()], ["div /a", "div /b", "div (other)", "pod (other)"]);
+	assert.strictEqual(metrics.entries.get("div /a").requests, 2);
+	// Without a metricsUrl nothing is ever scheduled
+	assert.strictEqual(metrics.timer, null);
+});
+
+test("it records nothing when metrics are disabled", () => {
+	const { BoxLangAjax } = setup({ metricsEnabled: false });
+
+	BoxLangAjax.metrics.record("div", "/a", { latency: 5 });
+	assert.strictEqual(BoxLangAjax.metrics.entries.size, 0);
+	assert.strictEqual(BoxLangAjax.metrics.flush(), false);
+});
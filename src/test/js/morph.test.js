@@ -0,0 +1,122 @@
+const { test } = require("node:test");
+const assert = require("node:assert");
+const { load } = require("./harness.js");
+
+const Node = { ELEMENT_NODE: 1, TEXT_NODE: 3 };
+
+/**
+ * A minimal DOM node: just the tree, id and attribute API morph() walks
+ */
+function node(tag, attributes = {}, children = []) {
+	const element = {
+		nodeType: Node.ELEMENT_NODE,
+		nodeName: tag.toUpperCase(),
+		tagName: tag.toUpperCase(),
+		parentNode: null,
+		childNodes: [],
+		values: Object.assign({}, attributes),
+		get id() {
+			return this.values.id || "";
+		},
+		get attributes() {
+			return Object.keys(this.values).map((name) => ({ name: name, value: this.values[name] }));
+		},
+		get firstChild() {
+			return this.childNodes[0] || null;
+		},
+		get nextSibling() {
+			const siblings = this.parentNode ? this.parentNode.childNodes : [];
+			return siblings[siblings.indexOf(this) + 1] || null;
+		},
+		getAttribute(name) {
+			return name in this.values ? this.values[name] : null;
+		},
+		setAttribute(name, value) {
+			this.values[name] = value;
+		},
+		removeAttribute(name) {
+			delete this.values[name];
+		},
+		hasAttribute(name) {
+			return name in this.values;
+		},
+		insertBefore(child, reference) {
+			if (child.parentNode) {
+				child.parentNode.removeChild(child);
+			}
+			const index = reference ? this.childNodes.indexOf(reference) : -1;
+			this.childNodes.splice(index < 0 ? this.childNodes.length : index, 0, child);
+			child.parentNode = this;
+			return child;
+		},
+		removeChild(child) {
+			this.childNodes.splice(this.childNodes.indexOf(child), 1);
+			child.parentNode = null;
+			return child;
+		},
+	};
+	children.forEach((child) => element.insertBefore(child, null));
+	return element;
+}
+
+function text(value) {
+	return {
+		nodeType: Node.TEXT_NODE,
+		nodeName: "#text",
+		nodeValue: value,
+		parentNode: null,
+		get nextSibling() {
+			const siblings = this.parentNode ? this.parentNode.childNodes : [];
+			return siblings[siblings.indexOf(this) + 1] || null;
+		},
+	};
+}
+
+function morph(target, source) {
+	const { BoxLangAjax } = load({ globals: { Node: Node } });
+	return BoxLangAjax.utils.morph(target, source);
+}
+
+test("it keeps keyed elements when they are reordered", () => {
+	const a = node("li", { id: "a" }, [text("A")]);
+	const b = node("li", { id: "b" }, [text("B")]);
+	const c = node("li", { id: "c" }, [text("C")]);
+	const list = node("ul", {}, [a, b, c]);
+
+	morph(
+		list,
+		node("template", {}, [
+			node("li", { id: "c" }, [text("C")]),
+			node("li", { id: "a", class: "active" }, [text("A")]),
+			node("li", { id: "b" }, [text("B2")]),
+		])
+	);
+
+	assert.deepStrictEqual(list.childNodes, [c, a, b]);
+	assert.strictEqual(a.getAttribute("class"), "active");
+	assert.strictEqual(b.firstChild.nodeValue, "B2");
+});
+
+test("it replaces an element whose id moved to another tag", () => {
+	const old = node("div", { id: "panel" }, [text("Old")]);
+	const container = node("section", {}, [old]);
+	const replacement = node("table", { id: "panel" }, [text("New")]);
+
+	morph(container, node("template", {}, [replacement]));
+
+	assert.deepStrictEqual(container.childNodes, [replacement]);
+	assert.strictEqual(old.parentNode, null);
+});
+
+test("it removes the elements that no longer exist", () => {
+	const a = node("li", { id: "a" });
+	const b = node("li", { id: "b" });
+	const note = text("note");
+	const list = node("ul", {}, [a, b, note]);
+
+	morph(list, node("template", {}, [node("li", { id: "b" })]));
+
+	assert.deepStrictEqual(list.childNodes, [b]);
+	assert.strictEqual(a.parentNode, null);
+	assert.strictEqual(note.parentNode, null);
+});
@@ -0,0 +1,148 @@
+const { test } = require("node:test");
+const assert = require("node:assert");
+const { load, createElement } = require("./harness.js");
+
+/**
+ * An IntersectionObserver whose entries the test reports
+ */
+class FakeIntersectionObserver {
+	constructor(callback) {
+		this.callback = callback;
+		this.observed = new Set();
+		FakeIntersectionObserver.last = this;
+	}
+	observe(element) {
+		this.observed.add(element);
+	}
+	unobserve(element) {
+		this.observed.delete(element);
+	}
+	report(element, isIntersecting) {
+		this.callback([{ target: element, isIntersecting: isIntersecting }]);
+	}
+}
+
+/**
+ * A sandbox with a clock the test moves forward, the scheduler is driven by calling tick()
+ */
+function setup(globals = {}) {
+	let now = 10000;
+	const clock = class extends Date {
+		static now() {
+			return now;
+		}
+	};
+	const loaded = load({ config: { refreshTick: 1000 }, globals: Object.assign({ Date: clock }, globals) });
+	loaded.wait = (ms) => (now += ms);
+	loaded.advance = (ms) => {
+		now += ms;
+		loaded.BoxLangAjax.refreshScheduler.tick();
+	};
+	return loaded;
+}
+
+test("it aligns refreshes to common ticks so equal intervals fire together", () => {
+	const { BoxLangAjax, advance } = setup();
+	const scheduler = BoxLangAjax.refreshScheduler;
+	const runs = [];
+
+	scheduler.register(createElement("bx-pod"), 5000, () => runs.push("a"));
+	advance(300);
+	scheduler.register(createElement("bx-div"), 5000, () => runs.push("b"));
+	// Intervals below a tick are rounded up to one
+	scheduler.register(createElement("bx-div"), 10, () => runs.push("c"));
+
+	assert.deepStrictEqual(Array.from(scheduler.tasks.values(), (task) => task.nextDue), [15000, 16000, 11000]);
+
+	advance(700);
+	assert.deepStrictEqual(runs, ["c"]);
+	for (let i = 0; i < 5; i++) {
+		advance(1000);
+	}
+	assert.deepStrictEqual(runs.filter((run) => run !== "c"), ["a", "b"]);
+	assert.strictEqual(runs.filter((run) => run === "c").length, 6);
+
+	// A tick that comes late runs a due refresh once, not once per missed interval
+	advance(3000);
+	assert.strictEqual(runs.filter((run) => run === "c").length, 7);
+	scheduler.stop();
+});
+
+test("it pauses while the page is hidden and catches up once when it comes back", () => {
+	const { BoxLangAjax, document, wait, advance } = setup();
+	const scheduler = BoxLangAjax.refreshScheduler;
+	let runs = 0;
+
+	scheduler.register(createElement("bx-pod"), 2000, () => runs++);
+	assert.notStrictEqual(scheduler.timer, null);
+
+	document.hidden = true;
+	document.dispatchEvent({ type: "visibilitychange" });
+	assert.strictEqual(scheduler.timer, null);
+
+	// Registering while hidden does not restart the timer either
+	scheduler.register(createElement("bx-div"), 60000, () => {});
+	assert.strictEqual(scheduler.timer, null);
+
+	// Ten missed intervals while hidden
+	wait(20000);
+	assert.strictEqual(runs, 0);
+	document.hidden = false;
+	document.dispatchEvent({ type: "visibilitychange" });
+	assert.strictEqual(runs, 1);
+	assert.notStrictEqual(scheduler.timer, null);
+
+	advance(0);
+	assert.strictEqual(runs, 1);
+	scheduler.stop();
+});
+
+test("it skips elements out of view and refreshes them once when they scroll back in", () => {
+	const { BoxLangAjax, advance } = setup({ IntersectionObserver: FakeIntersectionObserver });
+	const scheduler = BoxLangAjax.refreshScheduler;
+	const element = createElement("bx-pod");
+	let runs = 0;
+
+	scheduler.register(element, 1000, () => runs++);
+	const observer = FakeIntersectionObserver.last;
+	assert.strictEqual(observer.observed.has(element), true);
+
+	// Not visible until the observer reports it
+	advance(5000);
+	assert.strictEqual(runs, 0);
+
+	observer.report(element, true);
+	assert.strictEqual(runs, 1);
+	advance(1000);
+	assert.strictEqual(runs, 2);
+
+	observer.report(element, false);
+	advance(3000);
+	advance(3000);
+	assert.strictEqual(runs, 2);
+	observer.report(element, true);
+	assert.strictEqual(runs, 3);
+
+	// A second task on the same element reuses its visibility
+	scheduler.register(element, 1000, () => runs++);
+	advance(1000);
+	assert.strictEqual(runs, 5);
+	scheduler.stop();
+});
+
+test("it drops the tasks of detached elements and stops once none are left", () => {
+	const { BoxLangAjax, advance } = setup({ IntersectionObserver: FakeIntersectionObserver });
+	const scheduler = BoxLangAjax.refreshScheduler;
+	const element = createElement("bx-pod");
+	let runs = 0;
+
+	scheduler.register(element, 1000, () => runs++);
+	scheduler.register(element, 2000, () => runs++);
+	element.isConnected = false;
+	advance(2000);
+
+	assert.strictEqual(runs, 0);
+	assert.strictEqual(scheduler.tasks.size, 0);
+	assert.strictEqual(scheduler.timer, null);
+	assert.strictEqual(FakeIntersectionObserver.last.observed.size, 0);
+});
@@ -0,0 +1,59 @@
+const { test } = require("node:test");
+const assert = require("node:assert");
+const { load, createElement, deferred } = require("./harness.js");
+
+test("it starts queued requests by priority, first in first out within a priority", async () => {
+	const { BoxLangAjax } = load({ config: { maxConcurrentRequests: 1 } });
+	const queue = BoxLangAjax.requestQueue;
+	const started = [];
+	const blocker = deferred();
+	const task = (name) => () => {
+		started.push(name);
+		return name;
+	};
+
+	const running = queue.schedule(() => blocker.promise);
+	const queued = [
+		queue.schedule(task("background"), { priority: "background" }),
+		queue.schedule(task("prefetch"), { priority: "prefetch" }),
+		queue.schedule(task("visible 1"), { priority: "visible" }),
+		queue.schedule(task("visible 2")),
+	];
+	assert.deepStrictEqual(started, []);
+
+	blocker.resolve();
+	await running;
+	await Promise.all(queued);
+	assert.deepStrictEqual(started, ["visible 1", "visible 2", "prefetch", "background"]);
+});
+
+test("it never runs more requests at once than maxConcurrentRequests", async () => {
+	const { BoxLangAjax } = load({ config: { maxConcurrentRequests: 2 } });
+	let running = 0;
+	let peak = 0;
+	const task = async () => {
+		peak = Math.max(peak, ++running);
+		await new Promise((resolve) => setTimeout(resolve, 5));
+		running--;
+	};
+
+	await Promise.all(Array.from({ length: 6 }, () => BoxLangAjax.requestQueue.schedule(task)));
+	assert.strictEqual(peak, 2);
+	assert.strictEqual(BoxLangAjax.requestQueue.active, 0);
+});
+
+test("it drops queued requests whose container left the DOM", async () => {
+	const { BoxLangAjax } = load({ config: { maxConcurrentRequests: 1 } });
+	const blocker = deferred();
+	const container = createElement("bx-pod");
+	let ran = false;
+
+	const running = BoxLangAjax.requestQueue.schedule(() => blocker.promise);
+	const dropped = BoxLangAjax.requestQueue.schedule(() => (ran = true), { container: container });
+	container.isConnected = false;
+	blocker.resolve();
+	await running;
+
+	await assert.rejects(dropped, { name: "AbortError" });
+	assert.strictEqual(ran, false);
+});
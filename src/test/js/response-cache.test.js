@@ -0,0 +1,78 @@
+const { test } = require("node:test");
+const assert = require("node:assert");
+const { load, response } = require("./harness.js");
+
+const entry = (data, ttl = 60000) => ({ data: data, contentType: "text/html", expires: Date.now() + ttl });
+
+test("it evicts the least recently used entry once it holds maxEntries", () => {
+	const { BoxLangAjax } = load();
+	const cache = new BoxLangAjax.ResponseCache({ maxEntries: 2 });
+
+	cache.set("/a", entry("a"));
+	cache.set("/b", entry("b"));
+	cache.get("/a");
+	cache.set("/c", entry("c"));
+
+	assert.deepStrictEqual([...cache.keys()], ["/a", "/c"]);
+});
+
+test("it evicts by size and never stores an entry larger than maxBytes", () => {
+	const { BoxLangAjax } = load();
+	// Entries are counted at two bytes per character
+	const cache = new BoxLangAjax.ResponseCache({ maxBytes: 40 });
+
+	cache.set("/a", entry("x".repeat(10)));
+	cache.set("/b", entry("x".repeat(10)));
+	assert.strictEqual(cache.bytes, 40);
+
+	cache.set("/c", entry("x".repeat(5)));
+	assert.deepStrictEqual([...cache.keys()], ["/b", "/c"]);
+	assert.strictEqual(cache.bytes, 30);
+
+	cache.set("/huge", entry("x".repeat(21)));
+	assert.strictEqual(cache.has("/huge"), false);
+	assert.deepStrictEqual([...cache.keys()], ["/b", "/c"]);
+});
+
+test("it keeps expired entries for peek() but not for get()", () => {
+	const { BoxLangAjax } = load();
+	const cache = new BoxLangAjax.ResponseCache();
+
+	cache.set("/stale", entry("stale", -1));
+	assert.strictEqual(cache.get("/stale"), undefined);
+	assert.strictEqual(cache.has("/stale"), false);
+	assert.strictEqual(cache.peek("/stale").data, "stale");
+});
+
+test("it answers repeated GETs from the cache while their max-age lasts", async () => {
+	const { BoxLangAjax, fetchCalls, respond } = load();
+	respond((url) => response("content of " + url, { headers: { "Cache-Control": "max-age=60" } }));
+
+	assert.strictEqual(await BoxLangAjax.utils.fetchContent("/cached"), "content of /cached");
+	assert.strictEqual(await BoxLangAjax.utils.fetchContent("/cached"), "content of /cached");
+	assert.strictEqual(await BoxLangAjax.utils.fetchContent("/cached", { useCache: false }), "content of /cached");
+	assert.strictEqual(fetchCalls.length, 2);
+});
+
+test("it follows the Cache-Control of responses", () => {
+	const { BoxLangAjax } = load();
+	const utils = BoxLangAjax.utils;
+
+	assert.strictEqual(utils.parseMaxAge("public, max-age=120"), 120);
+	assert.strictEqual(utils.parseMaxAge("max-age=120, no-store"), 0);
+	assert.strictEqual(utils.parseMaxAge("no-cache"), 0);
+	assert.strictEqual(utils.parseMaxAge("s-maxage=60"), 0);
+	assert.strictEqual(utils.parseMaxAge(null), 0);
+
+	utils.storeResponse("/fresh", "fresh", "text/html", "max-age=60");
+	utils.storeResponse("/uncached", "uncached", "text/html", "no-cache");
+	utils.storeResponse("/stale", "stale", "text/html", "no-cache", { swr: true });
+	utils.storeResponse("/private", "private", "text/html", "no-store", { swr: true });
+
+	assert.strictEqual(BoxLangAjax.cache.get("/fresh").data, "fresh");
+	assert.strictEqual(BoxLangAjax.cache.peek("/uncached"), undefined);
+	// Stale-while-revalidate keeps responses that must be revalidated, as already stale
+	assert.strictEqual(BoxLangAjax.cache.get("/stale"), undefined);
+	assert.strictEqual(BoxLangAjax.cache.peek("/stale").data, "stale");
+	assert.strictEqual(BoxLangAjax.cache.peek("/private"), undefined);
+});
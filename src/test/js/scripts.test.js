@@ -0,0 +1,76 @@
+const { test } = require("node:test");
+const assert = require("node:assert");
+const { load, createElement } = require("./harness.js");
+
+/**
+ * A <script> element of loaded content
+ */
+function script(properties) {
+	return Object.assign({ type: "", src: "", textContent: "", children: [], matches: (selector) => selector === "script" }, properties);
+}
+
+test("it runs inline scripts on every load but compiles each source once", () => {
+	const { BoxLangAjax, window } = load();
+	window.runs = 0;
+	const fragment = () => createElement("bx-div", [script({ textContent: "window.runs++;" })]);
+
+	BoxLangAjax.utils.executeScripts(fragment());
+	const compiled = BoxLangAjax.compiledScripts.get("window.runs++;");
+	BoxLangAjax.utils.executeScripts(fragment());
+
+	assert.strictEqual(window.runs, 2);
+	assert.strictEqual(BoxLangAjax.compiledScripts.size, 1);
+	assert.strictEqual(BoxLangAjax.compiledScripts.get("window.runs++;"), compiled);
+});
+
+test("it loads each external script once and leaves data blocks alone", () => {
+	const { BoxLangAjax, document, window, errors } = load();
+	window.runs = 0;
+	const fragment = () =>
+		createElement("bx-div", [
+			script({ src: "http://localhost/js/chart.js" }),
+			script({ type: "text/template", textContent: "<b>{{name}}</b>" }),
+			script({ type: "application/json", textContent: '{"runs":1}' }),
+			script({ type: "text/javascript", textContent: "window.runs++;" }),
+		]);
+
+	BoxLangAjax.utils.executeScripts(fragment());
+	BoxLangAjax.utils.executeScripts(fragment());
+
+	assert.deepStrictEqual(
+		document.head.appended.map((appended) => appended.src),
+		["http://localhost/js/chart.js"]
+	);
+	assert.strictEqual(document.head.appended[0].async, false);
+	assert.strictEqual(window.runs, 2);
+	assert.deepStrictEqual([...BoxLangAjax.compiledScripts.keys()], ["window.runs++;"]);
+	assert.deepStrictEqual(errors, []);
+});
+
+test("it reports a failing script and still runs the others", () => {
+	const { BoxLangAjax, window, errors } = load();
+	window.runs = 0;
+
+	BoxLangAjax.utils.executeScripts(
+		createElement("bx-div", [script({ textContent: "throw new Error('broken')" }), script({ textContent: "window.runs++;" })])
+	);
+
+	assert.strictEqual(window.runs, 1);
+	assert.strictEqual(errors.length, 1);
+	assert.match(errors[0], /Error executing loaded script/);
+});
+
+test("it keeps the 200 most recently used compiled scripts", () => {
+	const { BoxLangAjax } = load();
+	const utils = BoxLangAjax.utils;
+
+	for (let i = 0; i < 200; i++) {
+		utils.compileScript("// script " + i);
+	}
+	const first = utils.compileScript("// script 0");
+	utils.compileScript("// script 200");
+
+	assert.strictEqual(BoxLangAjax.compiledScripts.size, 200);
+	assert.strictEqual(BoxLangAjax.compiledScripts.has("// script 1"), false);
+	assert.strictEqual(utils.compileScript("// script 0"), first);
+});
@@ -0,0 +1,34 @@
+const { test } = require("node:test");
+const assert = require("node:assert");
+const { load, response } = require("./harness.js");
+
+test("it hands a streamed response to onChunk as it arrives", async () => {
+	const { BoxLangAjax, respond } = load();
+	respond(async () => response("", { chunks: ["<table><tr>", "<td>1</td></tr>", "</table>"] }));
+
+	const chunks = [];
+	const text = await BoxLangAjax.utils.fetchContent("/orders", {
+		onChunk: (chunk, offset) => chunks.push([chunk, offset]),
+	});
+
+	assert.strictEqual(text, "<table><tr><td>1</td></tr></table>");
+	assert.deepStrictEqual(chunks, [
+		["<table><tr>", 0],
+		["<td>1</td></tr>", 11],
+		["</table>", 26],
+	]);
+});
+
+test("it decodes characters split across chunks", async () => {
+	const { BoxLangAjax, respond } = load();
+	const bytes = new TextEncoder().encode("café");
+	respond(async () => response("", { chunks: [bytes.slice(0, 4), bytes.slice(4)] }));
+
+	const chunks = [];
+	const text = await BoxLangAjax.utils.fetchContent("/menu", {
+		onChunk: (chunk) => chunks.push(chunk),
+	});
+
+	assert.strictEqual(text, "café");
+	assert.deepStrictEqual(chunks, ["caf", "é"]);
+});
@@ -0,0 +1,96 @@
+const { test } = require("node:test");
+const assert = require("node:assert");
+const { load, createElement, response, deferred } = require("./harness.js");
+
+/**
+ * A container that can be loaded into, recording every HTML swapped into it
+ */
+function container(id) {
+	const element = createElement("bx-div");
+	const classes = new Set();
+	const swaps = [];
+	let html = "";
+	Object.assign(element, {
+		id: id,
+		swaps: swaps,
+		classList: {
+			add: (name) => classes.add(name),
+			remove: (name) => classes.delete(name),
+			contains: (name) => classes.has(name),
+		},
+		hasChildNodes: () => html.length > 0,
+		getBoundingClientRect: () => ({ width: 100, height: 100, top: 0, left: 0, bottom: 100, right: 100 }),
+	});
+	Object.defineProperty(element, "innerHTML", {
+		get: () => html,
+		set: (value) => {
+			html = value;
+			swaps.push(value);
+		},
+	});
+	return element;
+}
+
+function setup() {
+	const target = container("news");
+	const loaded = load({ children: [target] });
+	loaded.document.getElementById = (id) => (id === target.id ? target : null);
+	loaded.window.innerHeight = 800;
+	loaded.window.innerWidth = 1200;
+	return Object.assign(loaded, { target: target });
+}
+
+const stale = { data: "<p>stale</p>", contentType: "text/html", expires: Date.now() - 1 };
+
+test("it renders a stale fragment right away and swaps in the revalidated one", async () => {
+	const { BoxLangAjax, fetchCalls, respond, target } = setup();
+	const revalidated = deferred();
+	respond(() => revalidated.promise);
+	BoxLangAjax.cache.set("/news", Object.assign({}, stale));
+
+	const loading = BoxLangAjax.utils.loadIntoContainer("news", "/news", { swr: true });
+
+	// The stale content is shown before the server has answered
+	assert.deepStrictEqual(target.swaps, ["<p>stale</p>"]);
+	assert.strictEqual(target.classList.contains("bx-source-loaded"), true);
+
+	revalidated.resolve(response("<p>fresh</p>", { headers: { "Cache-Control": "no-cache" } }));
+	assert.strictEqual(await loading, "<p>fresh</p>");
+	assert.strictEqual(fetchCalls.length, 1);
+	assert.deepStrictEqual(target.swaps, ["<p>stale</p>", "<p>fresh</p>"]);
+
+	// The revalidated response is kept for the next load, as already stale
+	assert.strictEqual(BoxLangAjax.cache.peek("/news").data, "<p>fresh</p>");
+});
+
+test("it does not swap again when the revalidated fragment is unchanged", async () => {
+	const { BoxLangAjax, fetchCalls, respond, target } = setup();
+	respond(() => response("<p>stale</p>"));
+	BoxLangAjax.cache.set("/news", Object.assign({}, stale));
+
+	assert.strictEqual(await BoxLangAjax.utils.loadIntoContainer("news", "/news", { swr: true }), "<p>stale</p>");
+	assert.strictEqual(fetchCalls.length, 1);
+	assert.deepStrictEqual(target.swaps, ["<p>stale</p>"]);
+});
+
+test("it does not revalidate a fragment that is still fresh", async () => {
+	const { BoxLangAjax, fetchCalls, target } = setup();
+	BoxLangAjax.cache.set("/news", { data: "<p>fresh</p>", contentType: "text/html", expires: Date.now() + 60000 });
+
+	assert.strictEqual(await BoxLangAjax.utils.loadIntoContainer("news", "/news", { swr: true }), "<p>fresh</p>");
+	assert.strictEqual(fetchCalls.length, 0);
+	assert.deepStrictEqual(target.swaps, ["<p>fresh</p>"]);
+});
+
+test("it keeps showing the stale fragment when revalidation fails", async () => {
+	const { BoxLangAjax, respond, target } = setup();
+	BoxLangAjax.config.retryAttempts = 1;
+	respond(() => response("Server Error", { status: 500, statusText: "Server Error" }));
+	BoxLangAjax.cache.set("/news", Object.assign({}, stale));
+
+	assert.strictEqual(
+		await BoxLangAjax.utils.loadIntoContainer("news", "/news", { swr: true }),
+		"<p>stale</p>"
+	);
+	assert.deepStrictEqual(target.swaps, ["<p>stale</p>"]);
+});